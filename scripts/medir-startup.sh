@@ -0,0 +1,71 @@
+#!/bin/sh
+# Compara o tempo de inicialização e o tempo até o primeiro PIX entre o jar
+# padrão e o jar gerado pelo perfil fast-startup (AOT + AppCDS).
+#
+# Uso: ./scripts/medir-startup.sh [execucoes]
+
+set -e
+
+EXECUCOES=${1:-5}
+PORTA=${PORTA:-8080}
+URL="http://localhost:$PORTA"
+JAR=bank-0.0.1-SNAPSHOT.jar
+RAIZ=$(cd "$(dirname "$0")/.." && pwd)
+
+# Relógio em milissegundos portável (o date do BSD/macOS não suporta %N).
+agora_ms() {
+    perl -MTime::HiRes=time -e 'printf "%d\n", time * 1000'
+}
+
+# Cria duas contas e espera até a API responder, depois realiza o primeiro PIX.
+# Falha se a JVM terminar antes de responder (por exemplo, um arquivo CDS incompatível).
+medir() {
+    inicio=$(agora_ms)
+    "$@" --server.port="$PORTA" > "$RAIZ/target/medir-startup.log" 2>&1 &
+    pid=$!
+
+    until curl -s -o /dev/null -X POST "$URL/contas" -H 'Content-Type: application/json' \
+        -d '{"numero":"1","agencia":"001","nomeTitular":"Origem","cpfTitular":"11111111111","dataAbertura":"01-01-2025","saldo":1000.0,"ativa":true,"tipo":"CORRENTE"}'; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "A aplicação terminou antes de responder; veja $RAIZ/target/medir-startup.log" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    pronto=$(agora_ms)
+
+    curl -s -o /dev/null -X POST "$URL/contas" -H 'Content-Type: application/json' \
+        -d '{"numero":"2","agencia":"001","nomeTitular":"Destino","cpfTitular":"22222222222","dataAbertura":"01-01-2025","saldo":0.0,"ativa":true,"tipo":"CORRENTE"}'
+    curl -s -o /dev/null -X PUT "$URL/contas/pix" -H 'Content-Type: application/json' \
+        -d '{"origemId":1,"destinoId":2,"valor":10.0}'
+    pix=$(agora_ms)
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$((pronto - inicio)) $((pix - inicio))"
+}
+
+relatorio() {
+    nome=$1
+    shift
+    soma_startup=0
+    soma_pix=0
+    i=0
+    while [ "$i" -lt "$EXECUCOES" ]; do
+        resultado=$(medir "$@")
+        soma_startup=$((soma_startup + ${resultado% *}))
+        soma_pix=$((soma_pix + ${resultado#* }))
+        i=$((i + 1))
+    done
+    echo "$nome: inicialização média $((soma_startup / EXECUCOES)) ms, primeiro PIX médio $((soma_pix / EXECUCOES)) ms"
+}
+
+cd "$RAIZ"
+
+sh ./mvnw -B -q -DskipTests package
+cp "target/$JAR" target/baseline.jar
+sh ./mvnw -B -q -DskipTests -Pfast-startup package
+
+relatorio "jar padrão" java -jar target/baseline.jar
+cd target/cds
+relatorio "fast-startup" java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "$JAR"
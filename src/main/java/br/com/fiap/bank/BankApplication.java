@@ -2,6 +2,7 @@ package br.com.fiap.bank;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Classe principal responsável por iniciar a aplicação Spring Boot.
@@ -11,6 +12,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @version 1.1
  */
 @SpringBootApplication
+@EnableScheduling
 public class BankApplication {
 
     /**
@@ -0,0 +1,95 @@
+package br.com.fiap.bank.controller;
+
+import br.com.fiap.bank.model.AgendamentoPix;
+import br.com.fiap.bank.service.AgendamentoPixService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.http.HttpStatus;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.List;
+
+/**
+ * Controlador responsável pelos PIX agendados e recorrentes.
+ *
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ * @see AgendamentoPix
+ * @see AgendamentoPixService
+ */
+@RestController
+@RequestMapping("/contas/pix/agendamentos")
+public class AgendamentoPixController {
+
+    private final AgendamentoPixService agendamentoPixService;
+
+    /**
+     * Construtor do controlador de agendamentos.
+     *
+     * @param agendamentoPixService Serviço responsável pelos PIX agendados.
+     */
+    public AgendamentoPixController(AgendamentoPixService agendamentoPixService) {
+        this.agendamentoPixService = agendamentoPixService;
+    }
+
+    /**
+     * Agenda um novo PIX, único ou recorrente.
+     *
+     * @param agendamento Dados do agendamento.
+     * @return Agendamento criado ou erro caso haja problema.
+     */
+    @PostMapping
+    public ResponseEntity<?> agendar(@RequestBody AgendamentoPix agendamento) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(agendamentoPixService.agendar(agendamento));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (UncheckedIOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Lista todos os agendamentos.
+     *
+     * @return Lista de agendamentos.
+     */
+    @GetMapping
+    public ResponseEntity<List<AgendamentoPix>> listarAgendamentos() {
+        return ResponseEntity.ok(agendamentoPixService.listarAgendamentos());
+    }
+
+    /**
+     * Busca um agendamento pelo ID.
+     *
+     * @param id Identificador do agendamento.
+     * @return Agendamento encontrado ou erro caso não exista.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> buscarPorId(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(agendamentoPixService.buscarPorId(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Cancela um agendamento pendente.
+     *
+     * @param requestBody Contém o ID do agendamento a ser cancelado.
+     * @return Agendamento cancelado ou erro caso não seja possível cancelar.
+     */
+    @PutMapping("/cancelar")
+    public ResponseEntity<?> cancelar(@RequestBody Map<String, Long> requestBody) {
+        try {
+            Long id = requestBody.get("id");
+            return ResponseEntity.ok(agendamentoPixService.cancelar(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (UncheckedIOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+}
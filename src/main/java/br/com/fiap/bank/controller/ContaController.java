@@ -1,9 +1,12 @@
 package br.com.fiap.bank.controller;
 
 import br.com.fiap.bank.model.Conta;
+import br.com.fiap.bank.model.ContaSerializada;
 import br.com.fiap.bank.service.ContaService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.http.HttpStatus;
 import java.util.Map;
 import java.util.List;
@@ -61,12 +64,13 @@ public class ContaController {
      * Busca uma conta pelo ID.
      * 
      * @param id Identificador da conta.
-     * @return Conta encontrada ou erro caso não exista.
+     * @param request Requisição utilizada para conferir o cabeçalho If-None-Match.
+     * @return Conta encontrada, 304 caso não tenha mudado ou erro caso não exista.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<?> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<?> buscarPorId(@PathVariable Long id, WebRequest request) {
         try {
-            return ResponseEntity.ok(contaService.buscarPorId(id));
+            return respostaVersionada(contaService.buscarPorId(id), request);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
@@ -76,12 +80,13 @@ public class ContaController {
      * Busca uma conta pelo CPF do titular.
      * 
      * @param cpf CPF do titular.
-     * @return Conta encontrada ou erro caso não exista.
+     * @param request Requisição utilizada para conferir o cabeçalho If-None-Match.
+     * @return Conta encontrada, 304 caso não tenha mudado ou erro caso não exista.
      */
     @GetMapping("/cpf/{cpf}")
-    public ResponseEntity<?> buscarPorCpf(@PathVariable String cpf) {
+    public ResponseEntity<?> buscarPorCpf(@PathVariable String cpf, WebRequest request) {
         try {
-            return ResponseEntity.ok(contaService.buscarPorCpf(cpf));
+            return respostaVersionada(contaService.buscarPorCpf(cpf), request);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
@@ -161,4 +166,26 @@ public class ContaController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Erro ao processar a requisição: " + e.getMessage());
         }
     }
+
+    /**
+     * Monta a resposta de uma conta com ETag baseada em sua versão.
+     * Retorna 304 quando o cliente já possui a versão atual; caso contrário,
+     * envia o JSON publicado na última alteração da conta. A ETag e o corpo vêm do
+     * mesmo instantâneo, lido sem bloquear as operações sobre a conta.
+     *
+     * @param conta Conta a ser retornada.
+     * @param request Requisição utilizada para conferir o cabeçalho If-None-Match.
+     * @return Resposta com o JSON da conta ou 304 sem corpo.
+     */
+    private ResponseEntity<?> respostaVersionada(Conta conta, WebRequest request) {
+        ContaSerializada serializada = conta.getSerializada();
+        String etag = "\"" + conta.getId() + "-" + serializada.getVersao() + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(serializada.getJson());
+    }
 }
@@ -0,0 +1,307 @@
+package br.com.fiap.bank.model;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Classe que representa uma transferência PIX agendada, única ou recorrente.
+ *
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ * @see Periodicidade
+ * @see StatusAgendamento
+ */
+public class AgendamentoPix {
+    private Long id;
+    private Long origemId;
+    private String origemCpf;
+    private String origemNumero;
+    private Long destinoId;
+    private String destinoCpf;
+    private String destinoNumero;
+    private Double valor;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
+    private LocalDateTime dataExecucao;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
+    private LocalDateTime dataInicial;
+    private Integer ocorrencia;
+    private Periodicidade periodicidade;
+    private StatusAgendamento status;
+    private Integer execucoes;
+    private String ultimoErro;
+
+    /**
+     * Construtor padrão.
+     */
+    public AgendamentoPix() {
+    }
+
+    /**
+     * Obtém o ID do agendamento.
+     * @return O ID do agendamento.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Define o ID do agendamento.
+     * @param id O novo ID do agendamento.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Obtém o ID da conta de origem.
+     * @return O ID da conta de origem.
+     */
+    public Long getOrigemId() {
+        return origemId;
+    }
+
+    /**
+     * Define o ID da conta de origem.
+     * @param origemId O novo ID da conta de origem.
+     */
+    public void setOrigemId(Long origemId) {
+        this.origemId = origemId;
+    }
+
+    /**
+     * Obtém o CPF do titular da conta de origem no momento do agendamento.
+     * @return O CPF do titular da conta de origem.
+     */
+    public String getOrigemCpf() {
+        return origemCpf;
+    }
+
+    /**
+     * Define o CPF do titular da conta de origem.
+     * @param origemCpf O CPF do titular da conta de origem.
+     */
+    public void setOrigemCpf(String origemCpf) {
+        this.origemCpf = origemCpf;
+    }
+
+    /**
+     * Obtém o número da conta de origem no momento do agendamento.
+     * @return O número da conta de origem.
+     */
+    public String getOrigemNumero() {
+        return origemNumero;
+    }
+
+    /**
+     * Define o número da conta de origem.
+     * @param origemNumero O número da conta de origem.
+     */
+    public void setOrigemNumero(String origemNumero) {
+        this.origemNumero = origemNumero;
+    }
+
+    /**
+     * Obtém o ID da conta de destino.
+     * @return O ID da conta de destino.
+     */
+    public Long getDestinoId() {
+        return destinoId;
+    }
+
+    /**
+     * Define o ID da conta de destino.
+     * @param destinoId O novo ID da conta de destino.
+     */
+    public void setDestinoId(Long destinoId) {
+        this.destinoId = destinoId;
+    }
+
+    /**
+     * Obtém o CPF do titular da conta de destino no momento do agendamento.
+     * @return O CPF do titular da conta de destino.
+     */
+    public String getDestinoCpf() {
+        return destinoCpf;
+    }
+
+    /**
+     * Define o CPF do titular da conta de destino.
+     * @param destinoCpf O CPF do titular da conta de destino.
+     */
+    public void setDestinoCpf(String destinoCpf) {
+        this.destinoCpf = destinoCpf;
+    }
+
+    /**
+     * Obtém o número da conta de destino no momento do agendamento.
+     * @return O número da conta de destino.
+     */
+    public String getDestinoNumero() {
+        return destinoNumero;
+    }
+
+    /**
+     * Define o número da conta de destino.
+     * @param destinoNumero O número da conta de destino.
+     */
+    public void setDestinoNumero(String destinoNumero) {
+        this.destinoNumero = destinoNumero;
+    }
+
+    /**
+     * Obtém o valor da transferência.
+     * @return O valor da transferência.
+     */
+    public Double getValor() {
+        return valor;
+    }
+
+    /**
+     * Define o valor da transferência.
+     * @param valor O novo valor da transferência.
+     */
+    public void setValor(Double valor) {
+        this.valor = valor;
+    }
+
+    /**
+     * Obtém a data da próxima execução.
+     * @return A data da próxima execução.
+     */
+    public LocalDateTime getDataExecucao() {
+        return dataExecucao;
+    }
+
+    /**
+     * Define a data da próxima execução.
+     * @param dataExecucao A nova data de execução.
+     */
+    public void setDataExecucao(LocalDateTime dataExecucao) {
+        this.dataExecucao = dataExecucao;
+    }
+
+    /**
+     * Obtém a data da primeira execução, a partir da qual as ocorrências recorrentes são calculadas.
+     * @return A data da primeira execução.
+     */
+    public LocalDateTime getDataInicial() {
+        return dataInicial;
+    }
+
+    /**
+     * Define a data da primeira execução.
+     * @param dataInicial A nova data da primeira execução.
+     */
+    public void setDataInicial(LocalDateTime dataInicial) {
+        this.dataInicial = dataInicial;
+    }
+
+    /**
+     * Obtém o número da ocorrência correspondente à data de execução atual (0 para a primeira).
+     * @return O número da ocorrência.
+     */
+    public Integer getOcorrencia() {
+        return ocorrencia;
+    }
+
+    /**
+     * Define o número da ocorrência correspondente à data de execução atual.
+     * @param ocorrencia O novo número da ocorrência.
+     */
+    public void setOcorrencia(Integer ocorrencia) {
+        this.ocorrencia = ocorrencia;
+    }
+
+    /**
+     * Obtém a periodicidade do agendamento.
+     * @return A periodicidade do agendamento.
+     */
+    public Periodicidade getPeriodicidade() {
+        return periodicidade;
+    }
+
+    /**
+     * Define a periodicidade do agendamento.
+     * @param periodicidade A nova periodicidade.
+     */
+    public void setPeriodicidade(Periodicidade periodicidade) {
+        this.periodicidade = periodicidade;
+    }
+
+    /**
+     * Obtém a situação do agendamento.
+     * @return A situação do agendamento.
+     */
+    public StatusAgendamento getStatus() {
+        return status;
+    }
+
+    /**
+     * Define a situação do agendamento.
+     * @param status A nova situação.
+     */
+    public void setStatus(StatusAgendamento status) {
+        this.status = status;
+    }
+
+    /**
+     * Obtém a quantidade de execuções bem-sucedidas.
+     * @return A quantidade de execuções.
+     */
+    public Integer getExecucoes() {
+        return execucoes;
+    }
+
+    /**
+     * Define a quantidade de execuções bem-sucedidas.
+     * @param execucoes A nova quantidade de execuções.
+     */
+    public void setExecucoes(Integer execucoes) {
+        this.execucoes = execucoes;
+    }
+
+    /**
+     * Obtém a mensagem do último erro de execução.
+     * @return A mensagem do último erro ou null se não houver.
+     */
+    public String getUltimoErro() {
+        return ultimoErro;
+    }
+
+    /**
+     * Define a mensagem do último erro de execução.
+     * @param ultimoErro A nova mensagem de erro.
+     */
+    public void setUltimoErro(String ultimoErro) {
+        this.ultimoErro = ultimoErro;
+    }
+
+    /**
+     * Representação textual do agendamento.
+     * @return String com as informações do agendamento.
+     */
+    @Override
+    public String toString() {
+        return "AgendamentoPix{" +
+                "id=" + id +
+                ", origemId=" + origemId +
+                ", origemCpf='" + origemCpf + '\'' +
+                ", origemNumero='" + origemNumero + '\'' +
+                ", destinoId=" + destinoId +
+                ", destinoCpf='" + destinoCpf + '\'' +
+                ", destinoNumero='" + destinoNumero + '\'' +
+                ", valor=" + valor +
+                ", dataExecucao=" + dataExecucao +
+                ", dataInicial=" + dataInicial +
+                ", ocorrencia=" + ocorrencia +
+                ", periodicidade=" + periodicidade +
+                ", status=" + status +
+                ", execucoes=" + execucoes +
+                ", ultimoErro='" + ultimoErro + '\'' +
+                '}';
+    }
+}
@@ -3,6 +3,8 @@ package br.com.fiap.bank.model;
 import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * Classe que representa uma conta bancária.
@@ -26,6 +28,12 @@ public class Conta {
     private Boolean ativa;
     private TipoConta tipo;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long versao;
+
+    @JsonIgnore
+    private volatile ContaSerializada serializada;
+
     /**
      * Construtor padrão.
      */
@@ -201,6 +209,40 @@ public class Conta {
         this.tipo = tipo;
     }
 
+    /**
+     * Obtém a versão da conta, atribuída pelo serviço a cada alteração a partir de
+     * um contador global, de modo que nunca se repete entre contas.
+     * @return A versão atual da conta.
+     */
+    public long getVersao() {
+        return versao;
+    }
+
+    /**
+     * Define a versão da conta.
+     * @param versao A nova versão da conta.
+     */
+    public void setVersao(long versao) {
+        this.versao = versao;
+    }
+
+    /**
+     * Obtém o JSON da conta publicado pela última alteração, junto com a sua versão.
+     * Pode ser lido sem bloqueio enquanto a conta é alterada por outra thread.
+     * @return O JSON serializado ou null caso a conta ainda não tenha sido cadastrada.
+     */
+    public ContaSerializada getSerializada() {
+        return serializada;
+    }
+
+    /**
+     * Publica o JSON serializado da conta.
+     * @param serializada O JSON junto com a versão da qual foi gerado.
+     */
+    public void setSerializada(ContaSerializada serializada) {
+        this.serializada = serializada;
+    }
+
     /**
      * Representação textual da conta.
      * @return String com as informações da conta.
@@ -217,6 +259,7 @@ public class Conta {
                 ", saldo=" + saldo +
                 ", ativa=" + ativa +
                 ", tipo=" + tipo +
+                ", versao=" + versao +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package br.com.fiap.bank.model;
+
+/**
+ * JSON de uma conta junto com a versão da qual foi gerado, permitindo que a ETag
+ * e o corpo de uma resposta correspondam sempre à mesma versão.
+ *
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ * @see Conta
+ */
+public final class ContaSerializada {
+    private final long versao;
+    private final byte[] json;
+
+    /**
+     * Construtor completo.
+     *
+     * @param versao A versão da conta serializada.
+     * @param json   Os bytes do JSON da conta.
+     */
+    public ContaSerializada(long versao, byte[] json) {
+        this.versao = versao;
+        this.json = json;
+    }
+
+    /**
+     * Obtém a versão da conta serializada.
+     * @return A versão da conta.
+     */
+    public long getVersao() {
+        return versao;
+    }
+
+    /**
+     * Obtém os bytes do JSON da conta.
+     * @return Os bytes do JSON.
+     */
+    public byte[] getJson() {
+        return json;
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.fiap.bank.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Enumeração que representa a periodicidade de um PIX agendado.
+ *
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ * @see AgendamentoPix
+ */
+public enum Periodicidade {
+    /** Execução única na data agendada. */
+    UNICA,
+
+    /** Execução repetida a cada dia. */
+    DIARIA,
+
+    /** Execução repetida a cada semana. */
+    SEMANAL,
+
+    /** Execução repetida a cada mês. */
+    MENSAL;
+
+    /**
+     * Calcula a data de uma ocorrência sempre a partir da data inicial, e não da ocorrência
+     * anterior, para que um agendamento mensal no dia 31 volte ao dia 31 após um mês mais curto.
+     *
+     * @param dataInicial A data da primeira execução.
+     * @param ocorrencia O número da ocorrência (0 para a primeira).
+     * @return A data da ocorrência ou null se o agendamento não for recorrente.
+     */
+    public LocalDateTime dataDaOcorrencia(LocalDateTime dataInicial, int ocorrencia) {
+        switch (this) {
+            case DIARIA:
+                return dataInicial.plusDays(ocorrencia);
+            case SEMANAL:
+                return dataInicial.plusWeeks(ocorrencia);
+            case MENSAL:
+                return dataInicial.plusMonths(ocorrencia);
+            default:
+                return null;
+        }
+    }
+}
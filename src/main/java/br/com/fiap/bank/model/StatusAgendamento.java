@@ -0,0 +1,23 @@
+package br.com.fiap.bank.model;
+
+/**
+ * Enumeração que representa a situação de um PIX agendado.
+ *
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ * @see AgendamentoPix
+ */
+public enum StatusAgendamento {
+    /** Aguardando a data de execução. */
+    PENDENTE,
+
+    /** Executado com sucesso, sem novas execuções previstas. */
+    EXECUTADO,
+
+    /** Cancelado pelo cliente antes da execução. */
+    CANCELADO,
+
+    /** A execução falhou e o agendamento não será repetido. */
+    FALHOU;
+}
@@ -0,0 +1,272 @@
+package br.com.fiap.bank.repository;
+
+import br.com.fiap.bank.model.AgendamentoPix;
+import br.com.fiap.bank.model.StatusAgendamento;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repositório responsável pelos PIX agendados.
+ * Mantém em memória apenas os agendamentos pendentes e registra cada alteração em um
+ * arquivo de journal (uma linha JSON por alteração), relido na inicialização para que os
+ * agendamentos sobrevivam a reinícios da aplicação. O journal é compactado na
+ * inicialização e sempre que acumula o dobro de linhas em relação aos pendentes; na
+ * compactação, os agendamentos finalizados (executados, cancelados ou falhos) são movidos
+ * para um arquivo separado, consultado apenas quando um deles é buscado ou listado.
+ *
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ */
+@Repository
+public class AgendamentoPixRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(AgendamentoPixRepository.class);
+    private static final int LINHAS_MINIMAS_COMPACTACAO = 1000;
+
+    private final Map<Long, AgendamentoPix> agendamentos = new LinkedHashMap<>();
+    // Finalizados desde a última compactação, ainda não movidos para o arquivo de finalizados
+    private final Map<Long, AgendamentoPix> finalizados = new LinkedHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Path arquivo;
+    private final Path arquivoFinalizados;
+    private BufferedWriter journal;
+    private long linhasNoJournal;
+    private Long proximoId = 1L;
+
+    /**
+     * Construtor do repositório de agendamentos.
+     *
+     * @param objectMapper O mapeador utilizado para gravar e ler o journal.
+     * @param arquivo O caminho do arquivo de journal.
+     */
+    public AgendamentoPixRepository(ObjectMapper objectMapper,
+                                    @Value("${bank.agendamentos.arquivo:data/agendamentos.log}") String arquivo) {
+        this.objectMapper = objectMapper;
+        this.arquivo = Paths.get(arquivo);
+        this.arquivoFinalizados = Paths.get(arquivo + ".finalizados");
+    }
+
+    /**
+     * Carrega os agendamentos gravados no journal e o compacta, mantendo apenas
+     * o estado mais recente de cada agendamento pendente. Linhas corrompidas (por exemplo,
+     * uma gravação interrompida) são ignoradas.
+     *
+     * @return Lista com os agendamentos pendentes carregados.
+     */
+    public synchronized List<AgendamentoPix> carregar() {
+        agendamentos.clear();
+        finalizados.clear();
+        // Os IDs dos finalizados já não estão no journal, mas não podem ser reaproveitados
+        for (AgendamentoPix finalizado : lerFinalizados().values()) {
+            proximoId = Math.max(proximoId, finalizado.getId() + 1);
+        }
+        if (Files.exists(arquivo)) {
+            try (BufferedReader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+                String linha;
+                while ((linha = leitor.readLine()) != null) {
+                    if (linha.isBlank()) {
+                        continue;
+                    }
+                    AgendamentoPix agendamento;
+                    try {
+                        agendamento = objectMapper.readValue(linha, AgendamentoPix.class);
+                    } catch (IOException e) {
+                        log.warn("Linha inválida ignorada no journal de agendamentos: {}", linha);
+                        continue;
+                    }
+                    registrar(agendamento);
+                    proximoId = Math.max(proximoId, agendamento.getId() + 1);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erro ao ler o journal de agendamentos.", e);
+            }
+            compactar();
+        }
+        return new ArrayList<>(agendamentos.values());
+    }
+
+    /**
+     * Salva um agendamento, gravando primeiro seu estado no journal. Se a gravação
+     * falhar, um agendamento novo não é registrado e permanece sem ID.
+     *
+     * @param agendamento O agendamento a ser salvo ou atualizado.
+     * @return O agendamento salvo com seu ID atribuído.
+     * @throws UncheckedIOException Se o journal não puder ser gravado.
+     */
+    public synchronized AgendamentoPix salvar(AgendamentoPix agendamento) {
+        boolean novo = agendamento.getId() == null;
+        if (novo) {
+            agendamento.setId(proximoId);
+        }
+        try {
+            if (journal == null) {
+                if (arquivo.getParent() != null) {
+                    Files.createDirectories(arquivo.getParent());
+                }
+                journal = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            journal.write(objectMapper.writeValueAsString(agendamento));
+            journal.newLine();
+            journal.flush();
+        } catch (IOException e) {
+            if (novo) {
+                agendamento.setId(null);
+            }
+            fecharJournal();
+            throw new UncheckedIOException("Erro ao gravar o journal de agendamentos.", e);
+        }
+        if (novo) {
+            proximoId++;
+        }
+        registrar(agendamento);
+        linhasNoJournal++;
+        if (linhasNoJournal > Math.max(LINHAS_MINIMAS_COMPACTACAO, 2L * agendamentos.size())) {
+            try {
+                compactar();
+            } catch (UncheckedIOException e) {
+                log.warn("Não foi possível compactar o journal de agendamentos.", e);
+            }
+        }
+        return agendamento;
+    }
+
+    /**
+     * Lista todos os agendamentos, incluindo os finalizados lidos do arquivo de finalizados.
+     *
+     * @return Uma lista contendo todos os agendamentos.
+     */
+    public synchronized List<AgendamentoPix> listarTodos() {
+        Map<Long, AgendamentoPix> todos = lerFinalizados();
+        todos.putAll(finalizados);
+        todos.putAll(agendamentos);
+        return new ArrayList<>(todos.values());
+    }
+
+    /**
+     * Busca um agendamento pelo seu ID. Agendamentos finalizados já movidos para o
+     * arquivo de finalizados são procurados nele.
+     *
+     * @param id O identificador do agendamento.
+     * @return Um Optional contendo o agendamento, se encontrado.
+     */
+    public synchronized Optional<AgendamentoPix> buscarPorId(Long id) {
+        AgendamentoPix agendamento = agendamentos.get(id);
+        if (agendamento == null) {
+            agendamento = finalizados.get(id);
+        }
+        if (agendamento == null) {
+            agendamento = lerFinalizados().get(id);
+        }
+        return Optional.ofNullable(agendamento);
+    }
+
+    /**
+     * Mantém em memória o estado mais recente de um agendamento, separando os pendentes
+     * dos finalizados que aguardam a próxima compactação.
+     */
+    private void registrar(AgendamentoPix agendamento) {
+        if (agendamento.getStatus() == StatusAgendamento.PENDENTE) {
+            finalizados.remove(agendamento.getId());
+            agendamentos.put(agendamento.getId(), agendamento);
+        } else {
+            agendamentos.remove(agendamento.getId());
+            finalizados.put(agendamento.getId(), agendamento);
+        }
+    }
+
+    /**
+     * Lê o arquivo de finalizados. Um agendamento pode aparecer mais de uma vez se a
+     * aplicação parou durante uma compactação; prevalece a última linha.
+     */
+    private Map<Long, AgendamentoPix> lerFinalizados() {
+        Map<Long, AgendamentoPix> lidos = new LinkedHashMap<>();
+        if (!Files.exists(arquivoFinalizados)) {
+            return lidos;
+        }
+        try (BufferedReader leitor = Files.newBufferedReader(arquivoFinalizados, StandardCharsets.UTF_8)) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                if (linha.isBlank()) {
+                    continue;
+                }
+                try {
+                    AgendamentoPix agendamento = objectMapper.readValue(linha, AgendamentoPix.class);
+                    lidos.put(agendamento.getId(), agendamento);
+                } catch (IOException e) {
+                    log.warn("Linha inválida ignorada no arquivo de agendamentos finalizados: {}", linha);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler os agendamentos finalizados.", e);
+        }
+        return lidos;
+    }
+
+    /**
+     * Move os finalizados para o arquivo de finalizados e reescreve o journal apenas com
+     * os pendentes. Os finalizados são gravados antes de o journal ser substituído, para
+     * que uma interrupção entre as duas etapas no máximo os duplique.
+     */
+    private void compactar() {
+        if (!finalizados.isEmpty()) {
+            try (BufferedWriter escritor = Files.newBufferedWriter(arquivoFinalizados, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AgendamentoPix agendamento : finalizados.values()) {
+                    escritor.write(objectMapper.writeValueAsString(agendamento));
+                    escritor.newLine();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erro ao gravar os agendamentos finalizados.", e);
+            }
+        }
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (BufferedWriter escritor = Files.newBufferedWriter(temporario, StandardCharsets.UTF_8)) {
+            for (AgendamentoPix agendamento : agendamentos.values()) {
+                escritor.write(objectMapper.writeValueAsString(agendamento));
+                escritor.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao compactar o journal de agendamentos.", e);
+        }
+        fecharJournal();
+        try {
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao compactar o journal de agendamentos.", e);
+        }
+        finalizados.clear();
+        linhasNoJournal = agendamentos.size();
+    }
+
+    private void fecharJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                log.warn("Erro ao fechar o journal de agendamentos.", e);
+            }
+            journal = null;
+        }
+    }
+}
@@ -5,11 +5,15 @@ import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Repositório responsável pelo gerenciamento das contas bancárias em memória.
- * Simula um banco de dados utilizando uma lista interna.
+ * Simula um banco de dados utilizando um mapa concorrente ordenado pelo ID,
+ * permitindo consultas simultâneas às operações de escrita.
  *
  * @author Rafael e Lucas
  * @since 1.0
@@ -18,31 +22,39 @@ import java.util.Optional;
 @Repository
 public class ContaRepository {
 
-    private final List<Conta> contas = new ArrayList<>();
-    private Long proximoId = 1L;
+    private final Map<Long, Conta> contas = new ConcurrentSkipListMap<>();
+    private final AtomicLong proximoId = new AtomicLong(1);
 
     /**
-     * Salva uma conta na lista. Se a conta já existir, ela é substituída.
+     * Salva uma conta no repositório. Se a conta já existir, ela é substituída.
      *
      * @param conta A conta a ser salva ou atualizada.
      * @return A conta salva com seu ID atribuído.
      */
     public Conta salvar(Conta conta) {
         if (conta.getId() == null) {
-            conta.setId(proximoId++);
+            conta.setId(proximoId.getAndIncrement());
         }
-        contas.removeIf(c -> c.getId().equals(conta.getId())); // Remove caso já exista
-        contas.add(conta);
+        contas.put(conta.getId(), conta); // Substitui caso já exista
         return conta;
     }
 
+    /**
+     * Reserva o próximo ID de conta, para que ela possa ser preparada antes de salva.
+     *
+     * @return Um ID ainda não utilizado.
+     */
+    public Long gerarId() {
+        return proximoId.getAndIncrement();
+    }
+
     /**
      * Lista todas as contas armazenadas.
      *
      * @return Uma lista contendo todas as contas.
      */
     public List<Conta> listarTodas() {
-        return new ArrayList<>(contas);
+        return new ArrayList<>(contas.values());
     }
 
     /**
@@ -52,9 +64,7 @@ public class ContaRepository {
      * @return Um Optional contendo a conta, se encontrada.
      */
     public Optional<Conta> buscarPorId(Long id) {
-        return contas.stream()
-                .filter(conta -> conta.getId().equals(id))
-                .findFirst();
+        return id == null ? Optional.empty() : Optional.ofNullable(contas.get(id));
     }
 
     /**
@@ -64,7 +74,7 @@ public class ContaRepository {
      * @return Um Optional contendo a conta, se encontrada.
      */
     public Optional<Conta> buscarPorCpf(String cpf) {
-        return contas.stream()
+        return contas.values().stream()
                 .filter(conta -> conta.getCpfTitular().equals(cpf))
                 .findFirst();
     }
@@ -0,0 +1,271 @@
+package br.com.fiap.bank.service;
+
+import br.com.fiap.bank.model.AgendamentoPix;
+import br.com.fiap.bank.model.Conta;
+import br.com.fiap.bank.model.Periodicidade;
+import br.com.fiap.bank.model.StatusAgendamento;
+import br.com.fiap.bank.repository.AgendamentoPixRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serviço responsável pelos PIX agendados e recorrentes.
+ * Os agendamentos pendentes ficam em uma {@link RodaTemporizacao}; a cada tick os
+ * vencidos são executados em lotes através do {@link ContaService}.
+ *
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ * @see AgendamentoPix
+ * @see AgendamentoPixRepository
+ */
+@Service
+public class AgendamentoPixService {
+
+    private static final Logger log = LoggerFactory.getLogger(AgendamentoPixService.class);
+
+    private final ContaService contaService;
+    private final AgendamentoPixRepository agendamentoRepository;
+    private final long duracaoTickMs;
+    private final int tamanhoLote;
+    private final RodaTemporizacao<AgendamentoPix> roda;
+    private final Map<Long, RodaTemporizacao.Entrada<AgendamentoPix>> entradas = new HashMap<>();
+
+    /**
+     * Construtor do serviço AgendamentoPixService.
+     *
+     * @param contaService O serviço utilizado para executar as transferências.
+     * @param agendamentoRepository O repositório de agendamentos.
+     * @param duracaoTickMs A duração de cada tick da roda, em milissegundos.
+     * @param tamanhoLote A quantidade máxima de transferências executadas por lote.
+     */
+    public AgendamentoPixService(ContaService contaService,
+                                 AgendamentoPixRepository agendamentoRepository,
+                                 @Value("${bank.agendamentos.tick-ms:1000}") long duracaoTickMs,
+                                 @Value("${bank.agendamentos.tamanho-lote:500}") int tamanhoLote) {
+        this.contaService = contaService;
+        this.agendamentoRepository = agendamentoRepository;
+        this.duracaoTickMs = duracaoTickMs;
+        this.tamanhoLote = tamanhoLote;
+        this.roda = new RodaTemporizacao<>(tickAtual());
+    }
+
+    /**
+     * Recarrega os agendamentos pendentes gravados antes do último reinício.
+     * As contas são conferidas pelo CPF e número no momento da execução; agendamentos
+     * sem essa identificação são marcados como falhos e nunca executados.
+     */
+    @PostConstruct
+    public synchronized void carregarAgendamentos() {
+        for (AgendamentoPix agendamento : agendamentoRepository.carregar()) {
+            if (agendamento.getStatus() != StatusAgendamento.PENDENTE) {
+                continue;
+            }
+            if (agendamento.getOrigemCpf() == null || agendamento.getDestinoCpf() == null) {
+                agendamento.setStatus(StatusAgendamento.FALHOU);
+                agendamento.setUltimoErro("Agendamento sem identificação das contas de origem e destino.");
+                agendamentoRepository.salvar(agendamento);
+            } else {
+                agendarNaRoda(agendamento);
+            }
+        }
+    }
+
+    /**
+     * Cria um novo PIX agendado após validação.
+     *
+     * @param agendamento O agendamento a ser criado.
+     * @return O agendamento criado.
+     * @throws IllegalArgumentException Se algum dos campos for inválido ou as contas não existirem.
+     * @throws UncheckedIOException Se o agendamento não puder ser gravado; nada é agendado.
+     */
+    public synchronized AgendamentoPix agendar(AgendamentoPix agendamento) {
+        validarAgendamento(agendamento);
+        Conta origem = contaService.buscarPorId(agendamento.getOrigemId());
+        Conta destino = contaService.buscarPorId(agendamento.getDestinoId());
+        agendamento.setOrigemCpf(origem.getCpfTitular());
+        agendamento.setOrigemNumero(origem.getNumero());
+        agendamento.setDestinoCpf(destino.getCpfTitular());
+        agendamento.setDestinoNumero(destino.getNumero());
+        agendamento.setId(null);
+        agendamento.setDataInicial(agendamento.getDataExecucao());
+        agendamento.setOcorrencia(0);
+        agendamento.setStatus(StatusAgendamento.PENDENTE);
+        agendamento.setExecucoes(0);
+        agendamento.setUltimoErro(null);
+        if (agendamento.getPeriodicidade() == null) {
+            agendamento.setPeriodicidade(Periodicidade.UNICA);
+        }
+        agendamentoRepository.salvar(agendamento);
+        agendarNaRoda(agendamento);
+        return agendamento;
+    }
+
+    /**
+     * Lista todos os agendamentos.
+     *
+     * @return Lista de agendamentos.
+     */
+    public List<AgendamentoPix> listarAgendamentos() {
+        return agendamentoRepository.listarTodos();
+    }
+
+    /**
+     * Busca um agendamento pelo ID.
+     *
+     * @param id O identificador do agendamento.
+     * @return O agendamento encontrado.
+     * @throws IllegalArgumentException Se o agendamento não for encontrado.
+     */
+    public AgendamentoPix buscarPorId(Long id) {
+        return agendamentoRepository.buscarPorId(id)
+                .orElseThrow(() -> new IllegalArgumentException("Agendamento não encontrado."));
+    }
+
+    /**
+     * Cancela um agendamento pendente.
+     *
+     * @param id O identificador do agendamento.
+     * @return O agendamento cancelado.
+     * @throws IllegalArgumentException Se o agendamento não existir ou não estiver pendente.
+     * @throws UncheckedIOException Se o cancelamento não puder ser gravado; o agendamento continua pendente.
+     */
+    public synchronized AgendamentoPix cancelar(Long id) {
+        AgendamentoPix agendamento = buscarPorId(id);
+        if (agendamento.getStatus() != StatusAgendamento.PENDENTE) {
+            throw new IllegalArgumentException("Operação não permitida: Somente agendamentos pendentes podem ser cancelados.");
+        }
+        agendamento.setStatus(StatusAgendamento.CANCELADO);
+        try {
+            agendamentoRepository.salvar(agendamento);
+        } catch (RuntimeException e) {
+            agendamento.setStatus(StatusAgendamento.PENDENTE);
+            throw e;
+        }
+        RodaTemporizacao.Entrada<AgendamentoPix> entrada = entradas.remove(id);
+        if (entrada != null) {
+            roda.cancelar(entrada);
+        }
+        return agendamento;
+    }
+
+    /**
+     * Avança a roda até o instante atual e executa em lotes os agendamentos vencidos.
+     * Agendamentos recorrentes são reagendados para a próxima data.
+     */
+    @Scheduled(fixedDelayString = "${bank.agendamentos.tick-ms:1000}")
+    public synchronized void processarVencidos() {
+        List<AgendamentoPix> vencidos = roda.avancar(tickAtual());
+        for (int inicio = 0; inicio < vencidos.size(); inicio += tamanhoLote) {
+            List<AgendamentoPix> lote = vencidos.subList(inicio, Math.min(inicio + tamanhoLote, vencidos.size()));
+            lote.forEach(agendamento -> entradas.remove(agendamento.getId()));
+            Map<Long, String> erros = contaService.realizarPixEmLote(lote);
+            for (AgendamentoPix agendamento : lote) {
+                concluirExecucao(agendamento, erros.get(agendamento.getId()));
+            }
+        }
+    }
+
+    /**
+     * Atualiza o agendamento após sua execução, reagendando-o se for recorrente.
+     * Se as contas deixaram de conferir, o agendamento falha definitivamente. Uma falha
+     * ao gravar o journal é registrada em log sem desfazer o estado em memória, pois a
+     * transferência já foi realizada.
+     *
+     * @param agendamento O agendamento executado.
+     * @param erro A mensagem de erro da execução ou null em caso de sucesso.
+     */
+    private void concluirExecucao(AgendamentoPix agendamento, String erro) {
+        if (erro == null) {
+            agendamento.setExecucoes(agendamento.getExecucoes() + 1);
+        }
+        agendamento.setUltimoErro(erro);
+        if (erro != null && !contaService.contasConferem(agendamento)) {
+            agendamento.setStatus(StatusAgendamento.FALHOU);
+        } else if (agendamento.getPeriodicidade() == Periodicidade.UNICA) {
+            agendamento.setStatus(erro == null ? StatusAgendamento.EXECUTADO : StatusAgendamento.FALHOU);
+        } else {
+            avancarParaOcorrenciaFutura(agendamento);
+            agendarNaRoda(agendamento);
+        }
+        try {
+            agendamentoRepository.salvar(agendamento);
+        } catch (UncheckedIOException e) {
+            log.error("Não foi possível gravar a execução do agendamento {}.", agendamento.getId(), e);
+        }
+    }
+
+    /**
+     * Avança um agendamento recorrente para a sua primeira ocorrência futura. Após um período
+     * parado, a ocorrência vencida é executada uma única vez e as demais perdidas são
+     * puladas, em vez de disparadas em sequência. Cada data é calculada a partir da data
+     * inicial; agendamentos gravados sem ela partem da data de execução atual.
+     *
+     * @param agendamento O agendamento recorrente executado.
+     */
+    private void avancarParaOcorrenciaFutura(AgendamentoPix agendamento) {
+        if (agendamento.getDataInicial() == null || agendamento.getOcorrencia() == null) {
+            agendamento.setDataInicial(agendamento.getDataExecucao());
+            agendamento.setOcorrencia(0);
+        }
+        Periodicidade periodicidade = agendamento.getPeriodicidade();
+        LocalDateTime agora = LocalDateTime.now();
+        int ocorrencia = agendamento.getOcorrencia();
+        LocalDateTime proxima;
+        do {
+            ocorrencia++;
+            proxima = periodicidade.dataDaOcorrencia(agendamento.getDataInicial(), ocorrencia);
+        } while (!proxima.isAfter(agora));
+        agendamento.setOcorrencia(ocorrencia);
+        agendamento.setDataExecucao(proxima);
+    }
+
+    private void agendarNaRoda(AgendamentoPix agendamento) {
+        entradas.put(agendamento.getId(), roda.agendar(agendamento, tickDe(agendamento.getDataExecucao())));
+    }
+
+    private long tickAtual() {
+        return System.currentTimeMillis() / duracaoTickMs;
+    }
+
+    /**
+     * Converte uma data no tick em que ela é alcançada, arredondando para cima
+     * para que o PIX nunca seja executado antes da data agendada.
+     */
+    private long tickDe(LocalDateTime data) {
+        long instante = data.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Math.floorDiv(instante + duracaoTickMs - 1, duracaoTickMs);
+    }
+
+    /**
+     * Valida os dados do agendamento antes da criação.
+     *
+     * @param agendamento O agendamento a ser validado.
+     * @throws IllegalArgumentException Se algum dos campos obrigatórios estiver ausente ou inválido.
+     */
+    private void validarAgendamento(AgendamentoPix agendamento) {
+        if (agendamento.getOrigemId() == null || agendamento.getDestinoId() == null) {
+            throw new IllegalArgumentException("As contas de origem e destino são obrigatórias.");
+        }
+        if (agendamento.getOrigemId().equals(agendamento.getDestinoId())) {
+            throw new IllegalArgumentException("Operação não permitida: A conta de origem e destino são as mesmas.");
+        }
+        if (agendamento.getValor() == null || agendamento.getValor() <= 0) {
+            throw new IllegalArgumentException("O valor da transferência deve ser maior que zero.");
+        }
+        if (agendamento.getDataExecucao() == null || agendamento.getDataExecucao().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("A data de execução não pode estar no passado.");
+        }
+    }
+}
@@ -1,14 +1,26 @@
 package br.com.fiap.bank.service;
 
+import br.com.fiap.bank.model.AgendamentoPix;
 import br.com.fiap.bank.model.Conta;
+import br.com.fiap.bank.model.ContaSerializada;
 import br.com.fiap.bank.repository.ContaRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Serviço responsável pelas operações bancárias, como cadastro, depósitos, saques e transferências via PIX.
+ * As operações que alteram contas bloqueiam apenas as contas envolvidas (por meio de
+ * travas distribuídas pelo ID), pois também são chamadas pela execução dos PIX agendados,
+ * fora das threads de requisição.
  *
  * @author Rafael e Lucas
  * @since 1.0
@@ -19,15 +31,26 @@ import java.util.List;
 @Service
 public class ContaService {
 
+    private static final int TRAVAS = 256;
+
     private final ContaRepository contaRepository;
+    private final ObjectMapper objectMapper;
+    // Contador global de versões; parte do instante de inicialização para não repetir ETags após um reinício
+    private final AtomicLong versoes = new AtomicLong(System.currentTimeMillis());
+    private final Object[] travas = new Object[TRAVAS];
 
     /**
      * Construtor do serviço ContaService.
      *
      * @param contaRepository O repositório de contas a ser utilizado.
+     * @param objectMapper O mapeador utilizado para serializar as contas em JSON.
      */
-    public ContaService(ContaRepository contaRepository) {
+    public ContaService(ContaRepository contaRepository, ObjectMapper objectMapper) {
         this.contaRepository = contaRepository;
+        this.objectMapper = objectMapper;
+        for (int i = 0; i < TRAVAS; i++) {
+            travas[i] = new Object();
+        }
     }
 
     /**
@@ -38,7 +61,13 @@ public class ContaService {
      */
     public Conta cadastrarConta(Conta conta) {
         validarConta(conta);
-        return contaRepository.salvar(conta);
+        if (conta.getId() == null) {
+            conta.setId(contaRepository.gerarId());
+        }
+        return comTrava(conta.getId(), () -> {
+            publicar(conta);
+            return contaRepository.salvar(conta);
+        });
     }
 
     /**
@@ -81,10 +110,13 @@ public class ContaService {
      * @return A conta encerrada.
      */
     public Conta encerrarConta(Long id) {
-        Conta conta = buscarPorId(id);
-        conta.setAtiva(false);
-        contaRepository.salvar(conta);
-        return conta;
+        return comTrava(id, () -> {
+            Conta conta = buscarPorId(id);
+            conta.setAtiva(false);
+            publicar(conta);
+            contaRepository.salvar(conta);
+            return conta;
+        });
     }
 
     /**
@@ -96,15 +128,18 @@ public class ContaService {
      * @throws IllegalArgumentException Se a conta estiver inativa ou o valor for inválido.
      */
     public Conta depositar(Long id, Double valor) {
-        Conta conta = buscarPorId(id);
-        if (!conta.getAtiva()) {
-            throw new IllegalArgumentException("Operação não permitida: Conta inativa.");
-        }
-        if (valor == null || valor <= 0) {
-            throw new IllegalArgumentException("O valor do depósito deve ser maior que zero.");
-        }
-        conta.setSaldo(conta.getSaldo() + valor);
-        return contaRepository.salvar(conta);
+        return comTrava(id, () -> {
+            Conta conta = buscarPorId(id);
+            if (!conta.getAtiva()) {
+                throw new IllegalArgumentException("Operação não permitida: Conta inativa.");
+            }
+            if (valor == null || valor <= 0) {
+                throw new IllegalArgumentException("O valor do depósito deve ser maior que zero.");
+            }
+            conta.setSaldo(conta.getSaldo() + valor);
+            publicar(conta);
+            return contaRepository.salvar(conta);
+        });
     }
 
     /**
@@ -116,18 +151,21 @@ public class ContaService {
      * @throws IllegalArgumentException Se a conta estiver inativa, o valor for inválido ou saldo insuficiente.
      */
     public Conta sacar(Long id, Double valor) {
-        Conta conta = buscarPorId(id);
-        if (!conta.getAtiva()) {
-            throw new IllegalArgumentException("Operação não permitida: Conta inativa.");
-        }
-        if (valor == null || valor <= 0) {
-            throw new IllegalArgumentException("O valor do saque deve ser maior que zero.");
-        }
-        if (conta.getSaldo() < valor) {
-            throw new IllegalArgumentException("Saldo insuficiente para saque.");
-        }
-        conta.setSaldo(conta.getSaldo() - valor);
-        return contaRepository.salvar(conta);
+        return comTrava(id, () -> {
+            Conta conta = buscarPorId(id);
+            if (!conta.getAtiva()) {
+                throw new IllegalArgumentException("Operação não permitida: Conta inativa.");
+            }
+            if (valor == null || valor <= 0) {
+                throw new IllegalArgumentException("O valor do saque deve ser maior que zero.");
+            }
+            if (conta.getSaldo() < valor) {
+                throw new IllegalArgumentException("Saldo insuficiente para saque.");
+            }
+            conta.setSaldo(conta.getSaldo() - valor);
+            publicar(conta);
+            return contaRepository.salvar(conta);
+        });
     }
 
     /**
@@ -143,25 +181,126 @@ public class ContaService {
         if (origemId.equals(destinoId)) {
             throw new IllegalArgumentException("Operação não permitida: A conta de origem e destino são as mesmas.");
         }
-        Conta origem = buscarPorId(origemId);
-        Conta destino = buscarPorId(destinoId);
-        if (!origem.getAtiva()) {
-            throw new IllegalArgumentException("Operação não permitida: Conta de origem inativa.");
+        return comTravas(origemId, destinoId, () -> {
+            Conta origem = buscarPorId(origemId);
+            Conta destino = buscarPorId(destinoId);
+            if (!origem.getAtiva()) {
+                throw new IllegalArgumentException("Operação não permitida: Conta de origem inativa.");
+            }
+            if (!destino.getAtiva()) {
+                throw new IllegalArgumentException("Operação não permitida: Conta de destino inativa.");
+            }
+            if (valor == null || valor <= 0) {
+                throw new IllegalArgumentException("O valor da transferência deve ser maior que zero.");
+            }
+            if (origem.getSaldo() < valor) {
+                throw new IllegalArgumentException("Saldo insuficiente para realizar a transferência.");
+            }
+            origem.setSaldo(origem.getSaldo() - valor);
+            destino.setSaldo(destino.getSaldo() + valor);
+            publicar(origem);
+            publicar(destino);
+            contaRepository.salvar(origem);
+            contaRepository.salvar(destino);
+            return origem;
+        });
+    }
+
+    /**
+     * Realiza em lote as transferências PIX de agendamentos vencidos.
+     * Cada transferência bloqueia apenas as suas duas contas, uma de cada vez, para que
+     * o lote não impeça as demais operações. A falha de uma transferência não interrompe
+     * as demais. Agendamentos cujas contas não conferem com as cadastradas não são executados.
+     *
+     * @param agendamentos Os agendamentos a serem executados.
+     * @return Mapa com o ID de cada agendamento que falhou e a mensagem de erro.
+     */
+    public Map<Long, String> realizarPixEmLote(List<AgendamentoPix> agendamentos) {
+        Map<Long, String> erros = new HashMap<>();
+        for (AgendamentoPix agendamento : agendamentos) {
+            try {
+                String erro = comTravas(agendamento.getOrigemId(), agendamento.getDestinoId(), () -> {
+                    if (!contasConferem(agendamento)) {
+                        return "As contas do agendamento não conferem com as contas cadastradas.";
+                    }
+                    realizarPix(agendamento.getOrigemId(), agendamento.getDestinoId(), agendamento.getValor());
+                    return null;
+                });
+                if (erro != null) {
+                    erros.put(agendamento.getId(), erro);
+                }
+            } catch (IllegalArgumentException e) {
+                erros.put(agendamento.getId(), e.getMessage());
+            } catch (RuntimeException e) {
+                erros.put(agendamento.getId(), "Erro ao processar a transferência: " + e);
+            }
         }
-        if (!destino.getAtiva()) {
-            throw new IllegalArgumentException("Operação não permitida: Conta de destino inativa.");
+        return erros;
+    }
+
+    /**
+     * Verifica se as contas de um agendamento ainda são as mesmas identificadas na sua
+     * criação, comparando o CPF do titular e o número de cada conta. Evita que um
+     * agendamento recarregado seja executado contra IDs reaproveitados por outras contas.
+     *
+     * @param agendamento O agendamento a ser verificado.
+     * @return true se as contas de origem e destino conferem, false caso contrário.
+     */
+    public boolean contasConferem(AgendamentoPix agendamento) {
+        return comTravas(agendamento.getOrigemId(), agendamento.getDestinoId(), () ->
+                contaConfere(agendamento.getOrigemId(), agendamento.getOrigemCpf(), agendamento.getOrigemNumero())
+                && contaConfere(agendamento.getDestinoId(), agendamento.getDestinoCpf(), agendamento.getDestinoNumero()));
+    }
+
+    private boolean contaConfere(Long id, String cpf, String numero) {
+        return cpf != null && contaRepository.buscarPorId(id)
+                .map(conta -> cpf.equals(conta.getCpfTitular()) && Objects.equals(numero, conta.getNumero()))
+                .orElse(false);
+    }
+
+    /**
+     * Atribui uma nova versão à conta e publica o seu JSON. Chamado sob a trava da conta,
+     * antes de salvá-la, para que as consultas leiam a versão e os bytes juntos, sem bloqueio
+     * e sem serializar a conta a cada requisição.
+     *
+     * @param conta A conta alterada.
+     * @throws IllegalStateException Se a conta não puder ser serializada.
+     */
+    private void publicar(Conta conta) {
+        conta.setVersao(versoes.incrementAndGet());
+        try {
+            conta.setSerializada(new ContaSerializada(conta.getVersao(), objectMapper.writeValueAsBytes(conta)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar a conta.", e);
         }
-        if (valor == null || valor <= 0) {
-            throw new IllegalArgumentException("O valor da transferência deve ser maior que zero.");
+    }
+
+    /**
+     * Executa uma operação sob a trava da conta informada.
+     */
+    private <T> T comTrava(Long id, Supplier<T> operacao) {
+        synchronized (travas[indiceTrava(id)]) {
+            return operacao.get();
         }
-        if (origem.getSaldo() < valor) {
-            throw new IllegalArgumentException("Saldo insuficiente para realizar a transferência.");
+    }
+
+    /**
+     * Executa uma operação sob as travas de duas contas. As travas são sempre adquiridas
+     * na mesma ordem (pelo índice da trava, que segue o ID), evitando deadlock entre
+     * transferências em sentidos opostos.
+     */
+    private <T> T comTravas(Long primeiroId, Long segundoId, Supplier<T> operacao) {
+        int primeira = indiceTrava(primeiroId);
+        int segunda = indiceTrava(segundoId);
+        synchronized (travas[Math.min(primeira, segunda)]) {
+            synchronized (travas[Math.max(primeira, segunda)]) {
+                return operacao.get();
+            }
         }
-        origem.setSaldo(origem.getSaldo() - valor);
-        destino.setSaldo(destino.getSaldo() + valor);
-        contaRepository.salvar(origem);
-        contaRepository.salvar(destino);
-        return origem;
+    }
+
+    private int indiceTrava(Long id) {
+        return id == null ? 0 : (int) Math.floorMod(id, (long) TRAVAS);
     }
 
     /**
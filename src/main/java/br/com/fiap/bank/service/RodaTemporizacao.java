@@ -0,0 +1,208 @@
+package br.com.fiap.bank.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roda de temporização hierárquica utilizada para disparar itens agendados.
+ * Cada nível possui 64 posições; o nível 0 avança um tick por vez e os níveis
+ * superiores são redistribuídos (cascata) para os inferiores quando o nível
+ * abaixo completa uma volta. Inserção e cancelamento são O(1).
+ *
+ * Esta classe não é thread-safe; o acesso deve ser sincronizado por quem a utiliza.
+ *
+ * @param <T> O tipo do item agendado.
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ */
+class RodaTemporizacao<T> {
+
+    private static final int BITS = 6;
+    private static final int POSICOES = 1 << BITS;
+    private static final int MASCARA = POSICOES - 1;
+    private static final int NIVEIS = 6;
+    private static final long ALCANCE_MAXIMO = (1L << (BITS * NIVEIS)) - 1;
+
+    private final Entrada<T>[][] niveis;
+    private long tickAtual;
+    private int tamanho;
+
+    /**
+     * Item inserido na roda. Guardado por quem agendou para permitir o cancelamento.
+     *
+     * @param <T> O tipo do item agendado.
+     */
+    static final class Entrada<T> {
+        private final T item;
+        private final long tick;
+        private Entrada<T> anterior;
+        private Entrada<T> proxima;
+
+        private Entrada(T item, long tick) {
+            this.item = item;
+            this.tick = tick;
+        }
+
+        /**
+         * Obtém o item agendado.
+         * @return O item agendado.
+         */
+        T getItem() {
+            return item;
+        }
+
+        /**
+         * Obtém o tick em que o item deve disparar.
+         * @return O tick de disparo.
+         */
+        long getTick() {
+            return tick;
+        }
+    }
+
+    /**
+     * Cria uma roda cujo próximo tick a ser processado é o informado.
+     *
+     * @param tickInicial O primeiro tick a ser processado.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    RodaTemporizacao(long tickInicial) {
+        this.tickAtual = tickInicial;
+        this.niveis = new Entrada[NIVEIS][POSICOES];
+        for (Entrada<T>[] nivel : niveis) {
+            for (int i = 0; i < POSICOES; i++) {
+                Entrada<T> sentinela = new Entrada<>(null, 0);
+                sentinela.anterior = sentinela;
+                sentinela.proxima = sentinela;
+                nivel[i] = sentinela;
+            }
+        }
+    }
+
+    /**
+     * Agenda um item para o tick informado. Ticks já passados disparam no próximo avanço.
+     *
+     * @param item O item a ser agendado.
+     * @param tick O tick de disparo.
+     * @return A entrada criada, utilizada para cancelar o agendamento.
+     */
+    Entrada<T> agendar(T item, long tick) {
+        Entrada<T> entrada = new Entrada<>(item, tick);
+        inserir(entrada);
+        tamanho++;
+        return entrada;
+    }
+
+    /**
+     * Cancela uma entrada ainda não disparada.
+     *
+     * @param entrada A entrada a ser cancelada.
+     * @return true se a entrada estava agendada, false caso já tenha disparado ou sido cancelada.
+     */
+    boolean cancelar(Entrada<T> entrada) {
+        if (entrada.proxima == null) {
+            return false;
+        }
+        remover(entrada);
+        tamanho--;
+        return true;
+    }
+
+    /**
+     * Avança a roda até o tick informado (inclusive), retornando os itens vencidos em ordem de disparo.
+     *
+     * @param ateTick O último tick a ser processado.
+     * @return Os itens cujo tick de disparo foi alcançado.
+     */
+    List<T> avancar(long ateTick) {
+        List<T> vencidos = new ArrayList<>();
+        while (tickAtual <= ateTick) {
+            if (tamanho == 0) {
+                tickAtual = ateTick + 1;
+                break;
+            }
+            int posicao = (int) (tickAtual & MASCARA);
+            if (posicao == 0) {
+                cascatear(1);
+            }
+            Entrada<T> sentinela = niveis[0][posicao];
+            while (sentinela.proxima != sentinela) {
+                Entrada<T> entrada = sentinela.proxima;
+                remover(entrada);
+                tamanho--;
+                vencidos.add(entrada.item);
+            }
+            tickAtual++;
+        }
+        return vencidos;
+    }
+
+    /**
+     * Obtém a quantidade de itens agendados.
+     * @return A quantidade de itens ainda não disparados.
+     */
+    int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Obtém o próximo tick a ser processado.
+     * @return O próximo tick.
+     */
+    long getTickAtual() {
+        return tickAtual;
+    }
+
+    /**
+     * Redistribui a posição corrente do nível informado para os níveis inferiores,
+     * propagando para o nível seguinte quando este também completa uma volta.
+     */
+    private void cascatear(int nivel) {
+        if (nivel >= NIVEIS) {
+            return;
+        }
+        int posicao = (int) ((tickAtual >>> (BITS * nivel)) & MASCARA);
+        if (posicao == 0) {
+            cascatear(nivel + 1);
+        }
+        Entrada<T> sentinela = niveis[nivel][posicao];
+        Entrada<T> entrada = sentinela.proxima;
+        sentinela.anterior = sentinela;
+        sentinela.proxima = sentinela;
+        while (entrada != sentinela) {
+            Entrada<T> seguinte = entrada.proxima;
+            inserir(entrada);
+            entrada = seguinte;
+        }
+    }
+
+    private void inserir(Entrada<T> entrada) {
+        long distancia = entrada.tick - tickAtual;
+        long tick = entrada.tick;
+        if (distancia < 0) {
+            distancia = 0;
+            tick = tickAtual;
+        } else if (distancia > ALCANCE_MAXIMO) {
+            distancia = ALCANCE_MAXIMO;
+            tick = tickAtual + ALCANCE_MAXIMO;
+        }
+        int nivel = 0;
+        while (nivel < NIVEIS - 1 && distancia >= (1L << (BITS * (nivel + 1)))) {
+            nivel++;
+        }
+        int posicao = (int) ((tick >>> (BITS * nivel)) & MASCARA);
+        Entrada<T> sentinela = niveis[nivel][posicao];
+        entrada.anterior = sentinela.anterior;
+        entrada.proxima = sentinela;
+        sentinela.anterior.proxima = entrada;
+        sentinela.anterior = entrada;
+    }
+
+    private void remover(Entrada<T> entrada) {
+        entrada.anterior.proxima = entrada.proxima;
+        entrada.proxima.anterior = entrada.anterior;
+        entrada.anterior = null;
+        entrada.proxima = null;
+    }
+}
@@ -3,7 +3,8 @@ package br.com.fiap.bank;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// Journal de agendamentos temporário, para não carregar nem executar o de data/
+@SpringBootTest(properties = "bank.agendamentos.arquivo=${java.io.tmpdir}/bank-testes-${random.uuid}/agendamentos.log")
 class BankApplicationTests {
 
 	@Test
@@ -0,0 +1,76 @@
+package br.com.fiap.bank;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Journal de agendamentos temporário, para não carregar nem executar o de data/
+@SpringBootTest(properties = "bank.agendamentos.arquivo=${java.io.tmpdir}/bank-testes-${random.uuid}/agendamentos.log")
+@AutoConfigureMockMvc
+class ContaControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void buscaPorIdRetornaEtagE304() throws Exception {
+		long id = cadastrar("55500000001");
+
+		String etag = mockMvc.perform(get("/contas/" + id))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andExpect(jsonPath("$.cpfTitular").value("55500000001"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/contas/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/contas/cpf/55500000001").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void depositoGeraNovaEtag() throws Exception {
+		long id = cadastrar("55500000002");
+		String etag = mockMvc.perform(get("/contas/" + id))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(put("/contas/deposito")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"id\":" + id + ",\"valor\":50.0}"))
+				.andExpect(status().isOk());
+
+		String novaEtag = mockMvc.perform(get("/contas/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.saldo").value(150.0))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotEquals(etag, novaEtag);
+	}
+
+	private long cadastrar(String cpf) throws Exception {
+		String corpo = mockMvc.perform(post("/contas")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"numero\":\"" + cpf.substring(6) + "\",\"agencia\":\"001\",\"nomeTitular\":\"Teste\","
+								+ "\"cpfTitular\":\"" + cpf + "\",\"dataAbertura\":\"01-01-2025\",\"saldo\":100.0,"
+								+ "\"ativa\":true,\"tipo\":\"CORRENTE\"}"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(corpo).get("id").asLong();
+	}
+}
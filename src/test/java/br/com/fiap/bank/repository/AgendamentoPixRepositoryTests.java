@@ -0,0 +1,96 @@
+package br.com.fiap.bank.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.bank.model.AgendamentoPix;
+import br.com.fiap.bank.model.Periodicidade;
+import br.com.fiap.bank.model.StatusAgendamento;
+
+class AgendamentoPixRepositoryTests {
+
+	@TempDir
+	Path pasta;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@Test
+	void falhaNaGravacaoNaoRegistraAgendamento() {
+		AgendamentoPixRepository repositorio = new AgendamentoPixRepository(objectMapper, pasta.toString());
+		AgendamentoPix agendamento = novoAgendamento();
+
+		assertThrows(UncheckedIOException.class, () -> repositorio.salvar(agendamento));
+		assertNull(agendamento.getId());
+		assertTrue(repositorio.listarTodos().isEmpty());
+	}
+
+	@Test
+	void compactaJournalConformeCresce() throws Exception {
+		Path arquivo = pasta.resolve("agendamentos.log");
+		AgendamentoPixRepository repositorio = new AgendamentoPixRepository(objectMapper, arquivo.toString());
+		AgendamentoPix agendamento = novoAgendamento();
+		for (int i = 0; i < 2500; i++) {
+			agendamento.setExecucoes(i);
+			repositorio.salvar(agendamento);
+		}
+
+		try (var linhas = Files.lines(arquivo)) {
+			assertTrue(linhas.count() <= 1001);
+		}
+		AgendamentoPixRepository recarregado = new AgendamentoPixRepository(objectMapper, arquivo.toString());
+		assertEquals(1, recarregado.carregar().size());
+		assertEquals(2499, recarregado.buscarPorId(agendamento.getId()).orElseThrow().getExecucoes());
+	}
+
+	@Test
+	void finalizadosSaemDaMemoriaEContinuamConsultaveis() throws Exception {
+		Path arquivo = pasta.resolve("agendamentos.log");
+		AgendamentoPixRepository repositorio = new AgendamentoPixRepository(objectMapper, arquivo.toString());
+		AgendamentoPix pendente = repositorio.salvar(novoAgendamento());
+		AgendamentoPix executado = repositorio.salvar(novoAgendamento());
+		executado.setStatus(StatusAgendamento.EXECUTADO);
+		repositorio.salvar(executado);
+
+		AgendamentoPixRepository recarregado = new AgendamentoPixRepository(objectMapper, arquivo.toString());
+		List<AgendamentoPix> carregados = recarregado.carregar();
+		assertEquals(1, carregados.size());
+		assertEquals(pendente.getId(), carregados.get(0).getId());
+		try (var linhas = Files.lines(arquivo)) {
+			assertEquals(1, linhas.count());
+		}
+		assertEquals(StatusAgendamento.EXECUTADO, recarregado.buscarPorId(executado.getId()).orElseThrow().getStatus());
+		assertEquals(2, recarregado.listarTodos().size());
+
+		pendente.setStatus(StatusAgendamento.CANCELADO);
+		recarregado.salvar(pendente);
+		AgendamentoPixRepository semPendentes = new AgendamentoPixRepository(objectMapper, arquivo.toString());
+		assertTrue(semPendentes.carregar().isEmpty());
+		assertEquals(StatusAgendamento.CANCELADO, semPendentes.buscarPorId(pendente.getId()).orElseThrow().getStatus());
+		assertEquals(executado.getId() + 1, semPendentes.salvar(novoAgendamento()).getId());
+	}
+
+	private AgendamentoPix novoAgendamento() {
+		AgendamentoPix agendamento = new AgendamentoPix();
+		agendamento.setOrigemId(1L);
+		agendamento.setDestinoId(2L);
+		agendamento.setValor(10.0);
+		agendamento.setDataExecucao(LocalDateTime.now().plusDays(1));
+		agendamento.setPeriodicidade(Periodicidade.DIARIA);
+		agendamento.setStatus(StatusAgendamento.PENDENTE);
+		agendamento.setExecucoes(0);
+		return agendamento;
+	}
+}
@@ -0,0 +1,193 @@
+package br.com.fiap.bank.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.bank.model.AgendamentoPix;
+import br.com.fiap.bank.model.Conta;
+import br.com.fiap.bank.model.Periodicidade;
+import br.com.fiap.bank.model.StatusAgendamento;
+import br.com.fiap.bank.model.TipoConta;
+import br.com.fiap.bank.repository.AgendamentoPixRepository;
+import br.com.fiap.bank.repository.ContaRepository;
+
+class AgendamentoPixServiceTests {
+
+	@TempDir
+	Path pasta;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private ContaService contaService;
+
+	@BeforeEach
+	void configurar() {
+		contaService = new ContaService(new ContaRepository(), objectMapper);
+	}
+
+	@Test
+	void falhaDeUmItemNaoInterrompeOLote() {
+		Conta origem = criarConta("11111111111", true);
+		Conta inativaNula = criarConta("22222222222", null);
+		Conta destino = criarConta("33333333333", true);
+		LocalDateTime vencimento = LocalDateTime.now().minusMinutes(1);
+		AgendamentoPix primeiro = pendente(origem, destino, 10.0, Periodicidade.UNICA, vencimento);
+		AgendamentoPix comErro = pendente(inativaNula, destino, 20.0, Periodicidade.UNICA, vencimento);
+		AgendamentoPix ultimo = pendente(origem, destino, 30.0, Periodicidade.UNICA, vencimento);
+
+		AgendamentoPixService servico = servicoRecarregado(primeiro, comErro, ultimo);
+		servico.processarVencidos();
+
+		assertEquals(StatusAgendamento.EXECUTADO, servico.buscarPorId(primeiro.getId()).getStatus());
+		assertEquals(StatusAgendamento.FALHOU, servico.buscarPorId(comErro.getId()).getStatus());
+		assertNotNull(servico.buscarPorId(comErro.getId()).getUltimoErro());
+		assertEquals(StatusAgendamento.EXECUTADO, servico.buscarPorId(ultimo.getId()).getStatus());
+		assertEquals(960.0, contaService.buscarPorId(origem.getId()).getSaldo());
+		assertEquals(1040.0, contaService.buscarPorId(destino.getId()).getSaldo());
+	}
+
+	@Test
+	void recorrenteAtrasadoExecutaUmaVezEPulaOcorrenciasPerdidas() {
+		Conta origem = criarConta("11111111111", true);
+		Conta destino = criarConta("22222222222", true);
+		AgendamentoPix diario = pendente(origem, destino, 10.0, Periodicidade.DIARIA,
+				LocalDateTime.now().minusDays(10));
+
+		AgendamentoPixService servico = servicoRecarregado(diario);
+		servico.processarVencidos();
+		servico.processarVencidos();
+
+		AgendamentoPix executado = servico.buscarPorId(diario.getId());
+		assertEquals(StatusAgendamento.PENDENTE, executado.getStatus());
+		assertEquals(1, executado.getExecucoes());
+		assertTrue(executado.getDataExecucao().isAfter(LocalDateTime.now()));
+		assertTrue(executado.getDataExecucao().isBefore(LocalDateTime.now().plusDays(1)));
+		assertEquals(990.0, contaService.buscarPorId(origem.getId()).getSaldo());
+	}
+
+	@Test
+	void mensalVoltaAoDiaDaDataInicialAposFevereiro() {
+		Conta origem = criarConta("11111111111", true);
+		Conta destino = criarConta("22222222222", true);
+		LocalDateTime inicio = LocalDateTime.of(2024, 1, 31, 9, 0);
+		AgendamentoPix mensal = pendente(origem, destino, 10.0, Periodicidade.MENSAL, inicio.plusMonths(1));
+		mensal.setDataInicial(inicio);
+		mensal.setOcorrencia(1);
+		assertEquals(29, mensal.getDataExecucao().getDayOfMonth());
+
+		AgendamentoPixService servico = servicoRecarregado(mensal);
+		servico.processarVencidos();
+
+		AgendamentoPix executado = servico.buscarPorId(mensal.getId());
+		LocalDateTime proxima = executado.getDataExecucao();
+		assertTrue(proxima.isAfter(LocalDateTime.now()));
+		assertEquals(inicio.plusMonths(executado.getOcorrencia()), proxima);
+		assertEquals(Math.min(31, proxima.toLocalDate().lengthOfMonth()), proxima.getDayOfMonth());
+		assertEquals(LocalDateTime.of(2024, 3, 31, 9, 0), Periodicidade.MENSAL.dataDaOcorrencia(inicio, 2));
+	}
+
+	@Test
+	void recarregadoComContasQueNaoConferemFalhaSemExecutar() {
+		Conta origem = criarConta("11111111111", true);
+		Conta destino = criarConta("22222222222", true);
+		AgendamentoPix agendamento = pendente(origem, destino, 10.0, Periodicidade.DIARIA,
+				LocalDateTime.now().minusMinutes(1));
+		agendamento.setOrigemCpf("99999999999");
+
+		AgendamentoPixService servico = servicoRecarregado(agendamento);
+		servico.processarVencidos();
+
+		assertEquals(StatusAgendamento.FALHOU, servico.buscarPorId(agendamento.getId()).getStatus());
+		assertEquals(1000.0, contaService.buscarPorId(origem.getId()).getSaldo());
+		assertEquals(1000.0, contaService.buscarPorId(destino.getId()).getSaldo());
+	}
+
+	@Test
+	void recarregadoSemIdentificacaoDasContasFalhaAoCarregar() {
+		Conta origem = criarConta("11111111111", true);
+		Conta destino = criarConta("22222222222", true);
+		AgendamentoPix agendamento = pendente(origem, destino, 10.0, Periodicidade.UNICA,
+				LocalDateTime.now().minusMinutes(1));
+		agendamento.setOrigemCpf(null);
+		agendamento.setDestinoCpf(null);
+
+		AgendamentoPixService servico = servicoRecarregado(agendamento);
+
+		assertEquals(StatusAgendamento.FALHOU, servico.buscarPorId(agendamento.getId()).getStatus());
+		servico.processarVencidos();
+		assertEquals(1000.0, contaService.buscarPorId(origem.getId()).getSaldo());
+	}
+
+	@Test
+	void cancelamentoSobreviveAoReinicio() {
+		Conta origem = criarConta("11111111111", true);
+		Conta destino = criarConta("22222222222", true);
+		AgendamentoPixService servico = new AgendamentoPixService(contaService, repositorio(), 1000, 2);
+		servico.carregarAgendamentos();
+		AgendamentoPix agendamento = new AgendamentoPix();
+		agendamento.setOrigemId(origem.getId());
+		agendamento.setDestinoId(destino.getId());
+		agendamento.setValor(10.0);
+		agendamento.setDataExecucao(LocalDateTime.now().plusHours(1));
+		servico.agendar(agendamento);
+
+		assertEquals(StatusAgendamento.CANCELADO, servico.cancelar(agendamento.getId()).getStatus());
+		assertThrows(IllegalArgumentException.class, () -> servico.cancelar(agendamento.getId()));
+
+		AgendamentoPixService recarregado = servicoRecarregado();
+		assertEquals(StatusAgendamento.CANCELADO, recarregado.buscarPorId(agendamento.getId()).getStatus());
+		assertEquals(origem.getCpfTitular(), recarregado.buscarPorId(agendamento.getId()).getOrigemCpf());
+	}
+
+	private Conta criarConta(String cpf, Boolean ativa) {
+		return contaService.cadastrarConta(new Conta(null, cpf.substring(6), "001", "Titular " + cpf, cpf,
+				LocalDate.now(), 1000.0, ativa, TipoConta.CORRENTE));
+	}
+
+	private AgendamentoPix pendente(Conta origem, Conta destino, Double valor, Periodicidade periodicidade,
+			LocalDateTime dataExecucao) {
+		AgendamentoPix agendamento = new AgendamentoPix();
+		agendamento.setOrigemId(origem.getId());
+		agendamento.setOrigemCpf(origem.getCpfTitular());
+		agendamento.setOrigemNumero(origem.getNumero());
+		agendamento.setDestinoId(destino.getId());
+		agendamento.setDestinoCpf(destino.getCpfTitular());
+		agendamento.setDestinoNumero(destino.getNumero());
+		agendamento.setValor(valor);
+		agendamento.setDataExecucao(dataExecucao);
+		agendamento.setDataInicial(dataExecucao);
+		agendamento.setOcorrencia(0);
+		agendamento.setPeriodicidade(periodicidade);
+		agendamento.setStatus(StatusAgendamento.PENDENTE);
+		agendamento.setExecucoes(0);
+		return agendamento;
+	}
+
+	/**
+	 * Grava os agendamentos no journal e cria um serviço que os recarrega, como após um reinício.
+	 */
+	private AgendamentoPixService servicoRecarregado(AgendamentoPix... agendamentos) {
+		AgendamentoPixRepository anterior = repositorio();
+		for (AgendamentoPix agendamento : agendamentos) {
+			anterior.salvar(agendamento);
+		}
+		AgendamentoPixService servico = new AgendamentoPixService(contaService, repositorio(), 1000, 2);
+		servico.carregarAgendamentos();
+		return servico;
+	}
+
+	private AgendamentoPixRepository repositorio() {
+		return new AgendamentoPixRepository(objectMapper, pasta.resolve("agendamentos.log").toString());
+	}
+}
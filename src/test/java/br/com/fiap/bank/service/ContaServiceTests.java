@@ -0,0 +1,114 @@
+package br.com.fiap.bank.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.bank.model.Conta;
+import br.com.fiap.bank.model.ContaSerializada;
+import br.com.fiap.bank.model.TipoConta;
+import br.com.fiap.bank.repository.ContaRepository;
+
+class ContaServiceTests {
+
+	private ContaService contaService;
+
+	@BeforeEach
+	void configurar() {
+		contaService = new ContaService(new ContaRepository(), new ObjectMapper().findAndRegisterModules());
+	}
+
+	@Test
+	void cadaAlteracaoIncrementaAVersao() {
+		Conta origem = criarConta(null, "11111111111");
+		Conta destino = criarConta(null, "22222222222");
+
+		long versao = origem.getVersao();
+		contaService.depositar(origem.getId(), 100.0);
+		assertTrue(origem.getVersao() > versao);
+
+		versao = origem.getVersao();
+		contaService.sacar(origem.getId(), 50.0);
+		assertTrue(origem.getVersao() > versao);
+
+		versao = origem.getVersao();
+		long versaoDestino = destino.getVersao();
+		contaService.realizarPix(origem.getId(), destino.getId(), 10.0);
+		assertTrue(origem.getVersao() > versao);
+		assertTrue(destino.getVersao() > versaoDestino);
+
+		versao = origem.getVersao();
+		contaService.encerrarConta(origem.getId());
+		assertTrue(origem.getVersao() > versao);
+	}
+
+	@Test
+	void contaSubstituidaNaoRepeteVersao() {
+		Conta original = criarConta(null, "11111111111");
+		Conta substituta = criarConta(original.getId(), "22222222222");
+
+		assertNotEquals(original.getVersao(), substituta.getVersao());
+	}
+
+	@Test
+	void jsonPublicadoAcompanhaCadaAlteracao() {
+		Conta origem = criarConta(null, "11111111111");
+		Conta destino = criarConta(null, "22222222222");
+
+		ContaSerializada inicial = origem.getSerializada();
+		assertEquals(origem.getVersao(), inicial.getVersao());
+		assertTrue(new String(inicial.getJson()).contains("\"id\":" + origem.getId()));
+
+		contaService.depositar(origem.getId(), 100.0);
+		ContaSerializada aposDeposito = origem.getSerializada();
+		assertNotSame(inicial, aposDeposito);
+		assertTrue(new String(aposDeposito.getJson()).contains("1100.0"));
+
+		ContaSerializada destinoAntes = destino.getSerializada();
+		contaService.realizarPix(origem.getId(), destino.getId(), 10.0);
+		assertNotSame(aposDeposito, origem.getSerializada());
+		assertNotSame(destinoAntes, destino.getSerializada());
+		assertEquals(destino.getVersao(), destino.getSerializada().getVersao());
+	}
+
+	@Test
+	void pixConcorrentesEmSentidosOpostosConservamOsSaldos() throws Exception {
+		Conta primeira = criarConta(null, "11111111111");
+		Conta segunda = criarConta(null, "22222222222");
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<Conta>> transferencias = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			Long origemId = i % 2 == 0 ? primeira.getId() : segunda.getId();
+			Long destinoId = i % 2 == 0 ? segunda.getId() : primeira.getId();
+			transferencias.add(executor.submit(() -> contaService.realizarPix(origemId, destinoId, 1.0)));
+		}
+		try {
+			for (Future<Conta> transferencia : transferencias) {
+				transferencia.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(2000.0, primeira.getSaldo() + segunda.getSaldo());
+	}
+
+	private Conta criarConta(Long id, String cpf) {
+		return contaService.cadastrarConta(new Conta(id, cpf.substring(6), "001", "Titular " + cpf, cpf,
+				LocalDate.now(), 1000.0, true, TipoConta.CORRENTE));
+	}
+}
@@ -0,0 +1,45 @@
+package br.com.fiap.bank.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RodaTemporizacaoTests {
+
+	@Test
+	void disparaCadaItemNoSeuTick() {
+		RodaTemporizacao<Long> roda = new RodaTemporizacao<>(10);
+		long[] ticks = {10, 11, 63, 64, 100, 4095, 4096, 300000};
+		for (long tick : ticks) {
+			roda.agendar(tick, tick);
+		}
+		for (long tick : ticks) {
+			assertEquals(List.of(), roda.avancar(tick - 1));
+			assertEquals(List.of(tick), roda.avancar(tick));
+		}
+		assertEquals(0, roda.tamanho());
+	}
+
+	@Test
+	void cancelaSemDisparar() {
+		RodaTemporizacao<String> roda = new RodaTemporizacao<>(0);
+		RodaTemporizacao.Entrada<String> cancelada = roda.agendar("cancelada", 5000);
+		roda.agendar("mantida", 5000);
+
+		assertTrue(roda.cancelar(cancelada));
+		assertFalse(roda.cancelar(cancelada));
+		assertEquals(List.of("mantida"), roda.avancar(5000));
+	}
+
+	@Test
+	void disparaImediatamenteTicksPassados() {
+		RodaTemporizacao<String> roda = new RodaTemporizacao<>(1000);
+		roda.agendar("atrasado", 10);
+
+		assertEquals(List.of("atrasado"), roda.avancar(1000));
+	}
+}
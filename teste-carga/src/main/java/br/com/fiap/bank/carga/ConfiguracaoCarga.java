@@ -0,0 +1,166 @@
+package br.com.fiap.bank.carga;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do gerador de carga, lidos de argumentos no formato --chave=valor.
+ *
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ */
+public class ConfiguracaoCarga {
+
+    private String url = "http://localhost:8080";
+    private int contas = 1000;
+    private double taxa = 200;
+    private int duracaoSegundos = 60;
+    private int aquecimentoSegundos = 10;
+    private double fracaoQuente = 0.01;
+    private double pesoQuente = 0.5;
+    private final Map<Operacao, Integer> mix = new EnumMap<>(Operacao.class);
+
+    /**
+     * Cria a configuração a partir dos argumentos da linha de comando.
+     *
+     * @param args Argumentos no formato --chave=valor.
+     * @return A configuração resultante.
+     * @throws IllegalArgumentException Se algum argumento for desconhecido ou inválido.
+     */
+    public static ConfiguracaoCarga deArgumentos(String[] args) {
+        ConfiguracaoCarga configuracao = new ConfiguracaoCarga();
+        for (Operacao operacao : Operacao.values()) {
+            configuracao.mix.put(operacao, operacao.getPesoPadrao());
+        }
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            String chave = arg.substring(2, arg.indexOf('='));
+            String valor = arg.substring(arg.indexOf('=') + 1);
+            switch (chave) {
+                case "url":
+                    configuracao.url = valor;
+                    break;
+                case "contas":
+                    configuracao.contas = Integer.parseInt(valor);
+                    break;
+                case "taxa":
+                    configuracao.taxa = Double.parseDouble(valor);
+                    break;
+                case "duracao":
+                    configuracao.duracaoSegundos = Integer.parseInt(valor);
+                    break;
+                case "aquecimento":
+                    configuracao.aquecimentoSegundos = Integer.parseInt(valor);
+                    break;
+                case "fracao-quente":
+                    configuracao.fracaoQuente = Double.parseDouble(valor);
+                    break;
+                case "peso-quente":
+                    configuracao.pesoQuente = Double.parseDouble(valor);
+                    break;
+                case "mix":
+                    configuracao.mix.replaceAll((operacao, peso) -> 0);
+                    for (String item : valor.split(",")) {
+                        String[] partes = item.split(":");
+                        if (partes.length != 2) {
+                            throw new IllegalArgumentException("Item do mix deve estar no formato operacao:peso: " + item);
+                        }
+                        int peso = Integer.parseInt(partes[1].trim());
+                        if (peso < 0) {
+                            throw new IllegalArgumentException("O peso de uma operação não pode ser negativo: " + item);
+                        }
+                        configuracao.mix.put(Operacao.porChave(partes[0].trim()), peso);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Argumento desconhecido: " + chave);
+            }
+        }
+        if (configuracao.contas < 2) {
+            throw new IllegalArgumentException("São necessárias ao menos 2 contas.");
+        }
+        if (configuracao.taxa <= 0) {
+            throw new IllegalArgumentException("A taxa de requisições deve ser maior que zero.");
+        }
+        if (configuracao.duracaoSegundos <= 0) {
+            throw new IllegalArgumentException("A duração deve ser maior que zero.");
+        }
+        if (configuracao.aquecimentoSegundos < 0) {
+            throw new IllegalArgumentException("O aquecimento não pode ser negativo.");
+        }
+        if (!(configuracao.fracaoQuente >= 0 && configuracao.fracaoQuente <= 1)) {
+            throw new IllegalArgumentException("A fração de contas quentes deve estar entre 0 e 1.");
+        }
+        if (!(configuracao.pesoQuente >= 0 && configuracao.pesoQuente <= 1)) {
+            throw new IllegalArgumentException("O peso das contas quentes deve estar entre 0 e 1.");
+        }
+        return configuracao;
+    }
+
+    /**
+     * Obtém a URL base da API.
+     * @return A URL base.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Obtém a quantidade de contas criadas antes da carga.
+     * @return A quantidade de contas.
+     */
+    public int getContas() {
+        return contas;
+    }
+
+    /**
+     * Obtém a taxa média de chegada de requisições, por segundo.
+     * @return A taxa de requisições.
+     */
+    public double getTaxa() {
+        return taxa;
+    }
+
+    /**
+     * Obtém a duração da fase medida, em segundos.
+     * @return A duração da medição.
+     */
+    public int getDuracaoSegundos() {
+        return duracaoSegundos;
+    }
+
+    /**
+     * Obtém a duração do aquecimento, em segundos, cujas latências são descartadas.
+     * @return A duração do aquecimento.
+     */
+    public int getAquecimentoSegundos() {
+        return aquecimentoSegundos;
+    }
+
+    /**
+     * Obtém a fração das contas consideradas quentes.
+     * @return A fração de contas quentes.
+     */
+    public double getFracaoQuente() {
+        return fracaoQuente;
+    }
+
+    /**
+     * Obtém a probabilidade de uma operação escolher uma conta quente.
+     * @return O peso das contas quentes.
+     */
+    public double getPesoQuente() {
+        return pesoQuente;
+    }
+
+    /**
+     * Obtém o peso de cada operação no tráfego.
+     * @return Mapa de operação para peso.
+     */
+    public Map<Operacao, Integer> getMix() {
+        return mix;
+    }
+}
@@ -0,0 +1,414 @@
+package br.com.fiap.bank.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga HTTP para a API bancária.
+ *
+ * Cria as contas iniciais, dispara uma mistura configurável de cadastros, consultas,
+ * depósitos, saques e PIX em modelo de chegada aberto (intervalos exponenciais,
+ * independentes da conclusão das requisições anteriores) e, ao final, apresenta a
+ * vazão e os percentis de latência por operação e verifica a conservação dos saldos.
+ *
+ * As latências são medidas a partir do instante previsto de envio, de modo que
+ * atrasos do próprio gerador ou da API entram na medição.
+ *
+ * Uso: {@code ../mvnw compile exec:java -Dexec.args="--contas=1000 --taxa=500 --duracao=60"}
+ *
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ * @see ConfiguracaoCarga
+ * @see Operacao
+ */
+public class GeradorCarga {
+
+    private static final long LATENCIA_MAXIMA_US = TimeUnit.MINUTES.toMicros(1);
+    private static final long SALDO_INICIAL = 1000;
+    private static final int LOTE_CRIACAO = 64;
+    private static final long PRIMEIRO_CPF = 10_000_000_000L;
+
+    private final ConfiguracaoCarga configuracao;
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SplittableRandom aleatorio = new SplittableRandom();
+    private final AtomicLong proximoCpf = new AtomicLong(PRIMEIRO_CPF);
+
+    private final Map<Operacao, Recorder> latencias = new EnumMap<>(Operacao.class);
+    private final Map<Operacao, LongAdder> sucessos = new EnumMap<>(Operacao.class);
+    private final Map<Operacao, LongAdder> rejeicoes = new EnumMap<>(Operacao.class);
+    private final Map<Operacao, LongAdder> falhas = new EnumMap<>(Operacao.class);
+    private final LongAdder variacaoSaldo = new LongAdder();
+    private final LongAdder indeterminadas = new LongAdder();
+    private final LongAdder emVoo = new LongAdder();
+
+    private final List<Long> ids = new ArrayList<>();
+    private final List<String> cpfs = new ArrayList<>();
+    private final Operacao[] operacoes;
+    private final int[] pesosAcumulados;
+    private double somaInicial;
+    private long duracaoMedidaNanos;
+
+    /**
+     * Construtor do gerador de carga.
+     *
+     * @param configuracao Os parâmetros da execução.
+     */
+    public GeradorCarga(ConfiguracaoCarga configuracao) {
+        this.configuracao = configuracao;
+        for (Operacao operacao : Operacao.values()) {
+            latencias.put(operacao, new Recorder(LATENCIA_MAXIMA_US, 3));
+            sucessos.put(operacao, new LongAdder());
+            rejeicoes.put(operacao, new LongAdder());
+            falhas.put(operacao, new LongAdder());
+        }
+        List<Operacao> ativas = new ArrayList<>();
+        List<Integer> acumulados = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operacao, Integer> item : configuracao.getMix().entrySet()) {
+            if (item.getValue() > 0) {
+                total += item.getValue();
+                ativas.add(item.getKey());
+                acumulados.add(total);
+            }
+        }
+        if (ativas.isEmpty()) {
+            throw new IllegalArgumentException("O mix deve ter ao menos uma operação com peso positivo.");
+        }
+        this.operacoes = ativas.toArray(new Operacao[0]);
+        this.pesosAcumulados = acumulados.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Método principal que executa o teste de carga. Termina com código de saída 1
+     * quando a conservação de saldo falha ou é inconclusiva.
+     *
+     * @param args Argumentos no formato --chave=valor.
+     * @throws Exception Se a API não puder ser acessada.
+     */
+    public static void main(String[] args) throws Exception {
+        GeradorCarga gerador = new GeradorCarga(ConfiguracaoCarga.deArgumentos(args));
+        gerador.prepararCpfs();
+        gerador.somaInicial = gerador.somarSaldos();
+        gerador.criarContas();
+        gerador.executar();
+        gerador.imprimirRelatorio();
+        if (!gerador.verificarConservacao()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Faz os CPFs gerados começarem após o maior CPF já cadastrado na API, para que uma
+     * nova execução contra o mesmo servidor não repita os CPFs de execuções anteriores
+     * (a API não impede CPFs duplicados e a busca por CPF retornaria a conta antiga).
+     *
+     * @throws IOException Se a listagem de contas não puder ser lida.
+     * @throws InterruptedException Se a requisição for interrompida.
+     */
+    private void prepararCpfs() throws IOException, InterruptedException {
+        long maior = PRIMEIRO_CPF - 1;
+        for (JsonNode conta : listarContas()) {
+            String cpf = conta.path("cpfTitular").asText("");
+            if (cpf.matches("\\d{11}")) {
+                maior = Math.max(maior, Long.parseLong(cpf));
+            }
+        }
+        proximoCpf.set(maior + 1);
+    }
+
+    /**
+     * Cria as contas iniciais em lotes de requisições simultâneas.
+     *
+     * @throws IOException Se a resposta de cadastro não puder ser lida.
+     */
+    private void criarContas() throws IOException {
+        System.out.printf("Criando %d contas em %s...%n", configuracao.getContas(), configuracao.getUrl());
+        for (int inicio = 0; inicio < configuracao.getContas(); inicio += LOTE_CRIACAO) {
+            int fim = Math.min(inicio + LOTE_CRIACAO, configuracao.getContas());
+            List<String> cpfsLote = new ArrayList<>();
+            List<CompletableFuture<HttpResponse<String>>> respostas = new ArrayList<>();
+            for (int i = inicio; i < fim; i++) {
+                String cpf = novoCpf();
+                cpfsLote.add(cpf);
+                respostas.add(cliente.sendAsync(requisicaoCadastro(cpf), HttpResponse.BodyHandlers.ofString()));
+            }
+            for (int i = 0; i < respostas.size(); i++) {
+                HttpResponse<String> resposta = respostas.get(i).join();
+                if (resposta.statusCode() != 201) {
+                    throw new IllegalStateException("Falha ao criar conta: " + resposta.statusCode() + " " + resposta.body());
+                }
+                ids.add(lerJson(resposta.body()).get("id").asLong());
+                cpfs.add(cpfsLote.get(i));
+            }
+        }
+    }
+
+    /**
+     * Dispara as requisições em modelo aberto durante o aquecimento e a medição,
+     * aguardando ao final as requisições ainda em andamento. A duração medida vai do
+     * início da medição até a conclusão da última requisição.
+     */
+    private void executar() {
+        System.out.printf("Carga: %.1f req/s, aquecimento %ds, medição %ds%n",
+                configuracao.getTaxa(), configuracao.getAquecimentoSegundos(), configuracao.getDuracaoSegundos());
+        long inicio = System.nanoTime();
+        long inicioMedicao = inicio + TimeUnit.SECONDS.toNanos(configuracao.getAquecimentoSegundos());
+        long fim = inicioMedicao + TimeUnit.SECONDS.toNanos(configuracao.getDuracaoSegundos());
+        long previsto = inicio;
+        while (true) {
+            previsto += (long) (-Math.log(1 - aleatorio.nextDouble()) / configuracao.getTaxa() * 1e9);
+            if (previsto >= fim) {
+                break;
+            }
+            long espera = previsto - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            disparar(escolherOperacao(), previsto, previsto >= inicioMedicao);
+        }
+        while (emVoo.sum() > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        duracaoMedidaNanos = System.nanoTime() - inicioMedicao;
+    }
+
+    /**
+     * Envia uma requisição da operação informada e registra seu resultado ao concluir.
+     *
+     * @param operacao A operação a ser executada.
+     * @param previsto O instante previsto de envio, em nanossegundos.
+     * @param medir Indica se a latência deve entrar no relatório.
+     */
+    private void disparar(Operacao operacao, long previsto, boolean medir) {
+        long variacao = 0;
+        HttpRequest requisicao;
+        int indice = escolherConta();
+        switch (operacao) {
+            case CADASTRO:
+                requisicao = requisicaoCadastro(novoCpf());
+                variacao = SALDO_INICIAL;
+                break;
+            case BUSCA_ID:
+                requisicao = requisicao("/contas/" + ids.get(indice)).GET().build();
+                break;
+            case BUSCA_CPF:
+                requisicao = requisicao("/contas/cpf/" + cpfs.get(indice)).GET().build();
+                break;
+            case DEPOSITO:
+                variacao = 1 + aleatorio.nextInt(100);
+                requisicao = put("/contas/deposito", String.format(Locale.ROOT,
+                        "{\"id\":%d,\"valor\":%d}", ids.get(indice), variacao));
+                break;
+            case SAQUE:
+                variacao = -(1 + aleatorio.nextInt(50));
+                requisicao = put("/contas/saque", String.format(Locale.ROOT,
+                        "{\"id\":%d,\"valor\":%d}", ids.get(indice), -variacao));
+                break;
+            default:
+                int destino = escolherConta();
+                if (destino == indice) {
+                    destino = (indice + 1) % ids.size();
+                }
+                requisicao = put("/contas/pix", String.format(Locale.ROOT,
+                        "{\"origemId\":%d,\"destinoId\":%d,\"valor\":%d}",
+                        ids.get(indice), ids.get(destino), 1 + aleatorio.nextInt(50)));
+                break;
+        }
+        long efeito = variacao;
+        emVoo.increment();
+        cliente.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((resposta, erro) -> {
+                    long latenciaUs = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - previsto);
+                    if (erro != null || resposta.statusCode() >= 500) {
+                        if (efeito != 0) {
+                            indeterminadas.increment();
+                        }
+                        if (medir) {
+                            falhas.get(operacao).increment();
+                        }
+                    } else if (resposta.statusCode() >= 400) {
+                        if (medir) {
+                            rejeicoes.get(operacao).increment();
+                        }
+                    } else {
+                        variacaoSaldo.add(efeito);
+                        if (medir) {
+                            sucessos.get(operacao).increment();
+                        }
+                    }
+                    if (medir) {
+                        latencias.get(operacao).recordValue(Math.min(latenciaUs, LATENCIA_MAXIMA_US));
+                    }
+                    emVoo.decrement();
+                });
+    }
+
+    /**
+     * Imprime a vazão e os percentis de latência de cada operação. A vazão é calculada
+     * sobre a duração efetivamente medida, e as requisições com sucesso são informadas
+     * à parte das concluídas (que incluem rejeições e falhas).
+     */
+    private void imprimirRelatorio() {
+        Histogram total = new Histogram(LATENCIA_MAXIMA_US, 3);
+        long concluidas = 0;
+        System.out.println();
+        System.out.printf("%-10s %9s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                "Operação", "Total", "Sucesso", "Rejeit.", "Falhas", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "máx ms");
+        for (Operacao operacao : operacoes) {
+            Histogram histograma = latencias.get(operacao).getIntervalHistogram();
+            total.add(histograma);
+            concluidas += histograma.getTotalCount();
+            imprimirLinha(operacao.getChave(), histograma, sucessos.get(operacao).sum(),
+                    rejeicoes.get(operacao).sum(), falhas.get(operacao).sum());
+        }
+        long sucessosTotal = sucessos.values().stream().mapToLong(LongAdder::sum).sum();
+        imprimirLinha("total", total, sucessosTotal,
+                rejeicoes.values().stream().mapToLong(LongAdder::sum).sum(),
+                falhas.values().stream().mapToLong(LongAdder::sum).sum());
+        double segundos = duracaoMedidaNanos / 1e9;
+        System.out.printf(Locale.ROOT, "%nVazão em %.1f s medidos: %.1f req/s concluídas, %.1f req/s com sucesso (alvo %.1f req/s)%n",
+                segundos, concluidas / segundos, sucessosTotal / segundos, configuracao.getTaxa());
+    }
+
+    private void imprimirLinha(String nome, Histogram histograma, long sucesso, long rejeitadas, long falhou) {
+        System.out.printf(Locale.ROOT, "%-10s %9d %9d %9d %9d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                nome, histograma.getTotalCount(), sucesso, rejeitadas, falhou,
+                histograma.getValueAtPercentile(50) / 1000.0,
+                histograma.getValueAtPercentile(90) / 1000.0,
+                histograma.getValueAtPercentile(99) / 1000.0,
+                histograma.getValueAtPercentile(99.9) / 1000.0,
+                histograma.getMaxValue() / 1000.0);
+    }
+
+    /**
+     * Compara a soma dos saldos de todas as contas com o valor esperado a partir da
+     * soma anterior à carga, das contas criadas, dos depósitos e dos saques confirmados.
+     * PIX não altera a soma.
+     *
+     * @return true se os saldos foram conservados, false se a verificação falhou ou é inconclusiva.
+     * @throws IOException Se a listagem de contas não puder ser lida.
+     * @throws InterruptedException Se a requisição for interrompida.
+     */
+    private boolean verificarConservacao() throws IOException, InterruptedException {
+        double somaSaldos = somarSaldos();
+        double esperado = somaInicial + ids.size() * SALDO_INICIAL + variacaoSaldo.sum();
+        System.out.printf(Locale.ROOT, "%nConservação de saldo: soma atual %.2f, esperada %.2f%n", somaSaldos, esperado);
+        if (indeterminadas.sum() > 0) {
+            System.out.printf("INCONCLUSIVA: %d operações financeiras sem resposta confirmada.%n", indeterminadas.sum());
+            return false;
+        }
+        if (Math.abs(somaSaldos - esperado) < 0.005) {
+            System.out.println("OK: saldos conservados.");
+            return true;
+        }
+        System.out.printf(Locale.ROOT, "FALHA: diferença de %.2f.%n", somaSaldos - esperado);
+        return false;
+    }
+
+    /**
+     * Soma os saldos de todas as contas cadastradas na API.
+     *
+     * @return A soma dos saldos.
+     * @throws IOException Se a listagem de contas não puder ser lida.
+     * @throws InterruptedException Se a requisição for interrompida.
+     */
+    private double somarSaldos() throws IOException, InterruptedException {
+        double soma = 0;
+        for (JsonNode conta : listarContas()) {
+            soma += conta.get("saldo").asDouble();
+        }
+        return soma;
+    }
+
+    /**
+     * Lista todas as contas cadastradas na API.
+     *
+     * @return O array JSON de contas.
+     * @throws IllegalStateException Se a API não responder com sucesso.
+     * @throws IOException Se a listagem de contas não puder ser lida.
+     * @throws InterruptedException Se a requisição for interrompida.
+     */
+    private JsonNode listarContas() throws IOException, InterruptedException {
+        HttpResponse<String> resposta = cliente.send(requisicao("/contas").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("Falha ao listar contas: " + resposta.statusCode() + " " + resposta.body());
+        }
+        return lerJson(resposta.body());
+    }
+
+    private Operacao escolherOperacao() {
+        int sorteio = aleatorio.nextInt(pesosAcumulados[pesosAcumulados.length - 1]);
+        int i = 0;
+        while (sorteio >= pesosAcumulados[i]) {
+            i++;
+        }
+        return operacoes[i];
+    }
+
+    /**
+     * Escolhe o índice de uma conta, concentrando parte das operações nas contas quentes.
+     */
+    private int escolherConta() {
+        int quentes = Math.max(1, (int) Math.ceil(ids.size() * configuracao.getFracaoQuente()));
+        if (aleatorio.nextDouble() < configuracao.getPesoQuente()) {
+            return aleatorio.nextInt(quentes);
+        }
+        return aleatorio.nextInt(ids.size());
+    }
+
+    private String novoCpf() {
+        return String.format("%011d", proximoCpf.getAndIncrement());
+    }
+
+    private HttpRequest requisicaoCadastro(String cpf) {
+        return requisicao("/contas")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(String.format(Locale.ROOT,
+                        "{\"numero\":\"%s\",\"agencia\":\"001\",\"nomeTitular\":\"Carga %s\",\"cpfTitular\":\"%s\","
+                                + "\"dataAbertura\":\"01-01-2025\",\"saldo\":%d,\"ativa\":true,\"tipo\":\"CORRENTE\"}",
+                        cpf.substring(6), cpf, cpf, SALDO_INICIAL)))
+                .build();
+    }
+
+    private HttpRequest put(String caminho, String corpo) {
+        return requisicao(caminho)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    private HttpRequest.Builder requisicao(String caminho) {
+        return HttpRequest.newBuilder(URI.create(configuracao.getUrl() + caminho))
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private JsonNode lerJson(String corpo) throws IOException {
+        return objectMapper.readTree(corpo);
+    }
+}
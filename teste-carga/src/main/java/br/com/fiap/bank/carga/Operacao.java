@@ -0,0 +1,69 @@
+package br.com.fiap.bank.carga;
+
+/**
+ * Enumeração das operações executadas pelo gerador de carga, com o peso padrão
+ * de cada uma no tráfego simulado.
+ *
+ * @author Rafael e Lucas
+ * @since 1.2
+ * @version 1.2
+ */
+public enum Operacao {
+    /** Cadastro de uma nova conta. */
+    CADASTRO("cadastro", 2),
+
+    /** Consulta de conta pelo ID. */
+    BUSCA_ID("buscaId", 30),
+
+    /** Consulta de conta pelo CPF do titular. */
+    BUSCA_CPF("buscaCpf", 15),
+
+    /** Depósito em conta. */
+    DEPOSITO("deposito", 15),
+
+    /** Saque de conta. */
+    SAQUE("saque", 13),
+
+    /** Transferência PIX entre contas. */
+    PIX("pix", 25);
+
+    private final String chave;
+    private final int pesoPadrao;
+
+    Operacao(String chave, int pesoPadrao) {
+        this.chave = chave;
+        this.pesoPadrao = pesoPadrao;
+    }
+
+    /**
+     * Obtém a chave utilizada na opção --mix.
+     * @return A chave da operação.
+     */
+    public String getChave() {
+        return chave;
+    }
+
+    /**
+     * Obtém o peso padrão da operação no tráfego.
+     * @return O peso padrão.
+     */
+    public int getPesoPadrao() {
+        return pesoPadrao;
+    }
+
+    /**
+     * Busca uma operação pela sua chave.
+     *
+     * @param chave A chave da operação.
+     * @return A operação correspondente.
+     * @throws IllegalArgumentException Se a chave não corresponder a nenhuma operação.
+     */
+    public static Operacao porChave(String chave) {
+        for (Operacao operacao : values()) {
+            if (operacao.chave.equals(chave)) {
+                return operacao;
+            }
+        }
+        throw new IllegalArgumentException("Operação desconhecida: " + chave);
+    }
+}